@@ -0,0 +1,109 @@
+import http from 'k6/http';
+import sse from 'k6/x/sse';
+import { check, sleep } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+
+// 대결 고스트 스트림(SSE) 부하 테스트
+// - 실행 : xk6-sse 확장으로 빌드한 k6 사용 (xk6 build --with github.com/phymbert/xk6-sse)
+//          BASE_URL=http://localhost:8080 SESSIONS=1000 ./k6 run battle_stream_test.js
+// - sessions.json : [{ "token": "...", "mountainId": 132, "pathId": 7917 }, ...]
+//   각 사용자는 미리 /tracking/start 로 대결 기록(recordId)을 지정해 트래킹 중 상태여야 함
+// - listeners 시나리오가 스트림을 열고, uploaders 시나리오가 같은 사용자로 /tracking/points 업로드
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SESSIONS = parseInt(__ENV.SESSIONS || '1000');
+const DURATION = __ENV.DURATION || '5m';
+
+const sessions = new SharedArray('sessions', () => JSON.parse(open('./sessions.json')));
+
+export const options = {
+  scenarios: {
+    listeners: {
+      executor: 'per-vu-iterations',
+      vus: SESSIONS,
+      iterations: 1,
+      maxDuration: DURATION,
+      exec: 'listen',
+    },
+    uploaders: {
+      executor: 'constant-vus',
+      vus: SESSIONS,
+      duration: DURATION,
+      startTime: '10s', // 스트림 연결 후 업로드 시작
+      exec: 'upload',
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:uploaders}': ['p(95)<300'],
+    ghost_event_delay: ['p(95)<1000'],
+  },
+};
+
+const ghostEvents = new Counter('ghost_events');
+const streamErrors = new Counter('stream_errors');
+const ghostEventDelay = new Trend('ghost_event_delay', true);
+
+function session() {
+  return sessions[(__VU - 1) % sessions.length];
+}
+
+// 스트림 연결 후 이벤트 수신
+export function listen() {
+  const s = session();
+  const url = `${BASE_URL}/tracking/battle/stream?mountainId=${s.mountainId}&pathId=${s.pathId}`;
+
+  const res = sse.open(url, {
+    method: 'GET',
+    headers: { 'Authorization': `Bearer ${s.token}` },
+  }, (client) => {
+    client.on('event', (event) => {
+      if (event.name !== 'ghost') {
+        return;
+      }
+      ghostEvents.add(1);
+
+      // 업로드 시각(초)을 time 에 실어 보내므로 수신까지 걸린 시간(ms) 측정
+      const data = JSON.parse(event.data);
+      ghostEventDelay.add(Date.now() % 1000000000 - data.time * 1000);
+    });
+
+    client.on('error', (e) => {
+      streamErrors.add(1);
+      console.log(`stream error: ${e.error()}`);
+    });
+  });
+
+  check(res, { 'stream status is 200': (r) => r && r.status === 200 });
+}
+
+// 사용자 포인트 업로드 (5초 간격, 한 번에 5개)
+export function upload() {
+  const s = session();
+  const now = Math.floor(Date.now() % 1000000000 / 1000);
+
+  const records = [];
+  for (let i = 0; i < 5; i++) {
+    records.push({
+      time: now - (4 - i),
+      distance: (now % 10000) * 0.5,
+      heartRate: Math.floor(Math.random() * 40) + 80,
+      latitude: 37.123 + (Math.random() * 0.001),
+      longitude: 127.123 + (Math.random() * 0.001),
+    });
+  }
+
+  const res = http.post(`${BASE_URL}/tracking/points`, JSON.stringify({
+    mountainId: s.mountainId,
+    pathId: s.pathId,
+    records: records,
+  }), {
+    headers: {
+      'Content-Type': 'application/json',
+      'Authorization': `Bearer ${s.token}`,
+    },
+  });
+
+  check(res, { 'points status is 200': (r) => r.status === 200 });
+  sleep(5);
+}
@@ -1,10 +1,75 @@
 package com.ssafy.ollana.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/*
+ * 용도별 스레드 풀 (크기는 설정값, 종료는 컨테이너가 관리)
+ * - 요청 처리와 무관한 작업이 서로의 스레드를 점유하지 않도록 분리
+ * - 트래킹 후처리는 종료 시 실행 중인 작업을 기다리고, 나머지는 즉시 중단 (미완료 작업은 재시도 / 재실행으로 복구)
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-}
 
+    public static final String MOUNTAIN_DETAIL_EXECUTOR = "mountainDetailExecutor";
+    public static final String WEATHER_FETCH_EXECUTOR = "weatherFetchExecutor";
+    public static final String IMG_HARVEST_EXECUTOR = "mountainImgHarvestExecutor";
+    public static final String BACKGROUND_JOB_EXECUTOR = "backgroundJobExecutor";
+    public static final String TRACKING_TASK_EXECUTOR = "trackingTaskExecutor";
+    public static final String BATTLE_STREAM_EXECUTOR = "battleStreamExecutor";
+
+    private static final int SHUTDOWN_AWAIT_SECONDS = 10;
+
+    // 산 상세 구간 별 동시 조회
+    @Bean(name = MOUNTAIN_DETAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mountainDetailExecutor(@Value("${mountain.detail.threads:16}") int threads) {
+        return fixed("mountain-detail-", threads, false);
+    }
+
+    // 날씨 API 백그라운드 갱신
+    @Bean(name = WEATHER_FETCH_EXECUTOR)
+    public ThreadPoolTaskExecutor weatherFetchExecutor(@Value("${openweather.fetch-threads:4}") int threads) {
+        return fixed("weather-fetch-", threads, false);
+    }
+
+    // 산 이미지 수집 시 산 코드 별 요청
+    @Bean(name = IMG_HARVEST_EXECUTOR)
+    public ThreadPoolTaskExecutor mountainImgHarvestExecutor(@Value("${mountain.img-harvest.concurrency:8}") int threads) {
+        return fixed("mountain-img-harvest-", threads, false);
+    }
+
+    // 산 이미지 수집 / 압축 트랙 이관 등 한 번씩 실행되는 긴 작업
+    @Bean(name = BACKGROUND_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor backgroundJobExecutor(@Value("${async.background-jobs.threads:2}") int threads) {
+        return fixed("background-job-", threads, false);
+    }
+
+    // 트래킹 종료 후처리 (outbox)
+    @Bean(name = TRACKING_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor trackingTaskExecutor(@Value("${tracking.finish-tasks.threads:4}") int threads) {
+        return fixed("tracking-task-", threads, true);
+    }
+
+    // 대결 고스트 SSE 전송
+    @Bean(name = BATTLE_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor battleStreamExecutor(@Value("${tracking.battle-stream.dispatcher-threads:8}") int threads) {
+        return fixed("battle-stream-", threads, false);
+    }
+
+    private static ThreadPoolTaskExecutor fixed(String threadNamePrefix, int threads, boolean waitOnShutdown) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(Math.max(1, threads));
+        executor.setMaxPoolSize(Math.max(1, threads));
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(waitOnShutdown);
+        if (waitOnShutdown) {
+            executor.setAwaitTerminationSeconds(SHUTDOWN_AWAIT_SECONDS);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.ollana.common.util;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+ * keyset 페이지네이션 응답 (count 쿼리 없음)
+ * - size + 1 개를 조회해 다음 페이지 존재 여부 판단
+ */
+@Getter
+public class CursorResponse<T> {
+    private final Map<String, List<T>> data = new HashMap<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorResponse(String key, List<T> content, boolean hasNext, String nextCursor) {
+        this.data.put(key, content);
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // rows : size + 1 개까지 조회한 결과
+    public static <E, T> CursorResponse<T> of(String key, List<E> rows, int size,
+                                              Function<E, Integer> idExtractor, Function<E, T> mapper) {
+        CursorUtil.checkSize(size);
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorUtil.encode(idExtractor.apply(content.get(content.size() - 1))) : null;
+
+        return new CursorResponse<>(key, content.stream().map(mapper).toList(), hasNext, nextCursor);
+    }
+
+    @JsonAnyGetter
+    public Map<String, List<T>> getData() {
+        return data;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.ollana.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * keyset 페이지네이션 cursor 인코딩
+ * - 마지막으로 조회한 정렬 키(id)를 "v1:{id}" 형태로 base64url 인코딩
+ * - 빈 문자열 cursor 는 첫 페이지
+ * - 페이지 크기는 1 ~ MAX_SIZE 만 허용 (조회 전에 checkSize 로 검증)
+ */
+public class CursorUtil {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String PREFIX = "v1:";
+
+    public static int checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_SIZE + " 사이여야 합니다.");
+        }
+        return size;
+    }
+
+    public static String encode(Integer lastId) {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지면 null
+    public static Integer decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+            }
+            return Integer.valueOf(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
@@ -14,7 +14,8 @@ import java.util.List;
 @Table(
 		name = "footprint",
 		indexes = {
-				@Index(name = "idx_footprint_user_mountain", columnList = "user_id, mountain_id")
+				@Index(name = "idx_footprint_user_mountain", columnList = "user_id, mountain_id"),
+				@Index(name = "idx_footprint_user_id", columnList = "user_id, footprint_id")
 		}
 )
 @AllArgsConstructor
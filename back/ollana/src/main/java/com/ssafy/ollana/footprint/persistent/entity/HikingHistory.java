@@ -3,6 +3,7 @@ package com.ssafy.ollana.footprint.persistent.entity;
 import com.ssafy.ollana.common.BaseEntity;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.service.HikingHistoryCacheEvictListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,9 +15,10 @@ import java.util.List;
 @Table(
 		name = "hiking_history",
 		indexes = {
-				@Index(name = "idx_history_footprint_path", columnList = "footprint_id, path_id")
+				@Index(name = "idx_history_footprint_path_created", columnList = "footprint_id, path_id, created_at DESC")
 		}
 )
+@EntityListeners(HikingHistoryCacheEvictListener.class)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HikingHistory extends BaseEntity {
@@ -38,19 +40,17 @@ public class HikingHistory extends BaseEntity {
 	private double averageHeartRate;
 	private int maxHeartRate;
 
+	// 심박 요약 (트래킹 종료 시 계산), 이전에 저장된 기록은 null
+	private Integer minHeartRate;
+	private Integer heartRateP50;
+	private Integer heartRateP90;
+	private Integer zone1Seconds;
+	private Integer zone2Seconds;
+	private Integer zone3Seconds;
+	private Integer zone4Seconds;
+	private Integer zone5Seconds;
+	private Double heartRateDrift;
+
 	@OneToMany(mappedBy = "hikingHistory", cascade = CascadeType.REMOVE, orphanRemoval = true)
 	private List<HikingLiveRecords> hikingLiveRecords;
-
-	public static HikingHistory of(Footprint footprint, Path path, int hikingTime, List<Integer> heartRates) {
-		double avg = heartRates.stream().mapToInt(i -> i).average().orElse(0);
-		int max = heartRates.stream().mapToInt(i -> i).max().orElse(0);
-
-		return HikingHistory.builder()
-				.footprint(footprint)
-				.path(path)
-				.hikingTime(hikingTime)
-				.averageHeartRate(avg)
-				.maxHeartRate(max)
-				.build();
-	}
 }
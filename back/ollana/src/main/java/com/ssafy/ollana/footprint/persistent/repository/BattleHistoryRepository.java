@@ -6,6 +6,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface BattleHistoryRepository extends JpaRepository<BattleHistory, Integer> {
+public interface BattleHistoryRepository extends JpaRepository<BattleHistory, Integer>, BattleHistoryRepositoryCustom {
     Page<BattleHistory> findByUserId(Integer userId, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.ollana.footprint.persistent.entity.BattleHistory;
+import com.ssafy.ollana.user.entity.QUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.ssafy.ollana.footprint.persistent.entity.QBattleHistory.battleHistory;
+import static com.ssafy.ollana.mountain.persistent.entity.QMountain.mountain;
+
+@Repository
+@RequiredArgsConstructor
+public class BattleHistoryRepositoryImpl implements BattleHistoryRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<BattleHistory> findByUserIdBefore(Integer userId, Integer lastId, int limit) {
+        QUser opponent = new QUser("opponent");
+
+        return queryFactory
+                .selectFrom(battleHistory)
+                .join(battleHistory.mountain, mountain).fetchJoin()
+                .leftJoin(battleHistory.opponent, opponent).fetchJoin()
+                .where(
+                        battleHistory.user.id.eq(userId),
+                        lastId != null ? battleHistory.id.lt(lastId) : null
+                )
+                .orderBy(battleHistory.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -6,10 +6,16 @@ import com.ssafy.ollana.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface FootprintRepository extends JpaRepository<Footprint, Integer> {
+public interface FootprintRepository extends JpaRepository<Footprint, Integer>, FootprintRepositoryCustom {
     Page<Footprint> findByUserId(Integer userId, Pageable pageable);
     Optional<Footprint> findByUserAndMountain(User user, Mountain mountain);
+
+    // 산 별 발자취 수 (산 인기도)
+    @Query("SELECT f.mountain.id AS mountainId, COUNT(f) AS footprintCount FROM Footprint f GROUP BY f.mountain.id")
+    List<MountainPopularity> countFootprintsByMountain();
 }
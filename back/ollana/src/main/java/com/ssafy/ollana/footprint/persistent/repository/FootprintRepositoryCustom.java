@@ -0,0 +1,10 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+import com.ssafy.ollana.footprint.persistent.entity.Footprint;
+
+import java.util.List;
+
+public interface FootprintRepositoryCustom {
+    // 발자취 목록 keyset 페이지네이션 (id 내림차순, lastId 가 null 이면 첫 페이지)
+    List<Footprint> findByUserIdBefore(Integer userId, Integer lastId, int limit);
+}
@@ -0,0 +1,31 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.ollana.footprint.persistent.entity.Footprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.ssafy.ollana.footprint.persistent.entity.QFootprint.footprint;
+import static com.ssafy.ollana.mountain.persistent.entity.QMountain.mountain;
+
+@Repository
+@RequiredArgsConstructor
+public class FootprintRepositoryImpl implements FootprintRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Footprint> findByUserIdBefore(Integer userId, Integer lastId, int limit) {
+        return queryFactory
+                .selectFrom(footprint)
+                .join(footprint.mountain, mountain).fetchJoin()
+                .where(
+                        footprint.user.id.eq(userId),
+                        lastId != null ? footprint.id.lt(lastId) : null
+                )
+                .orderBy(footprint.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.ollana.footprint.persistent.repository;
 
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.tracking.web.dto.response.OpponentRecordDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +10,6 @@ import java.util.Optional;
 public interface HikingHistoryRepositoryCustom {
     List<HikingHistory> findHistories(Integer footprintId, Integer pathId, LocalDateTime start, LocalDateTime end);
     Optional<HikingHistory> findLatestRecord(Integer userId, Integer mountainId, Integer pathId);
-    List<HikingHistory> findOpponentHistories(Integer userId, Integer mountainId, Integer pathId);
+    List<OpponentRecordDto> findOpponentRecords(Integer userId, Integer mountainId, Integer pathId, Integer lastId, Integer limit);
     List<HikingHistory> findAllByUserIdOrderByCreatedAtDesc(Integer userId);
 }
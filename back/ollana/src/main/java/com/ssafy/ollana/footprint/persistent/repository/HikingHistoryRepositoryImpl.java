@@ -1,10 +1,17 @@
 package com.ssafy.ollana.footprint.persistent.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.footprint.persistent.entity.QFootprint;
+import com.ssafy.ollana.footprint.persistent.entity.QHikingHistory;
 import com.ssafy.ollana.mountain.persistent.entity.QMountain;
 import com.ssafy.ollana.mountain.persistent.entity.QPath;
+import com.ssafy.ollana.tracking.web.dto.response.OpponentRecordDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
@@ -51,18 +58,39 @@ public class HikingHistoryRepositoryImpl implements HikingHistoryRepositoryCusto
             );
     }
 
+    // (createdAt, id) 기준 keyset, lastId 기록의 createdAt 은 서브쿼리로 조회 / limit 이 null 이면 전체
     @Override
-    public List<HikingHistory> findOpponentHistories(Integer userId, Integer mountainId, Integer pathId) {
-        return queryFactory
-                .selectFrom(hikingHistory)
-                .join(hikingHistory.footprint, footprint).fetchJoin()
+    public List<OpponentRecordDto> findOpponentRecords(Integer userId, Integer mountainId, Integer pathId,
+                                                       Integer lastId, Integer limit) {
+        JPAQuery<OpponentRecordDto> query = queryFactory
+                .select(Projections.constructor(OpponentRecordDto.class,
+                        hikingHistory.id,
+                        hikingHistory.createdAt,
+                        hikingHistory.hikingTime))
+                .from(hikingHistory)
+                .join(hikingHistory.footprint, footprint)
                 .where(
                         footprint.user.id.eq(userId),
                         footprint.mountain.id.eq(mountainId),
-                        hikingHistory.path.id.eq(pathId)
+                        hikingHistory.path.id.eq(pathId),
+                        lastId != null ? before(lastId) : null
                 )
-                .orderBy(hikingHistory.createdAt.desc())
-                .fetch();
+                .orderBy(hikingHistory.createdAt.desc(), hikingHistory.id.desc());
+
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch();
+    }
+
+    private BooleanExpression before(Integer lastId) {
+        QHikingHistory last = new QHikingHistory("last");
+        JPQLQuery<LocalDateTime> lastCreatedAt = JPAExpressions.select(last.createdAt)
+                                                               .from(last)
+                                                               .where(last.id.eq(lastId));
+
+        return hikingHistory.createdAt.lt(lastCreatedAt)
+                                      .or(hikingHistory.createdAt.eq(lastCreatedAt).and(hikingHistory.id.lt(lastId)));
     }
 
     @Override
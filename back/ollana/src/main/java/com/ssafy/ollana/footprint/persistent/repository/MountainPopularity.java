@@ -0,0 +1,7 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+// 산 별 발자취 수 projection
+public interface MountainPopularity {
+    Integer getMountainId();
+    Long getFootprintCount();
+}
@@ -1,5 +1,7 @@
 package com.ssafy.ollana.footprint.service;
 
+import com.ssafy.ollana.common.util.CursorResponse;
+import com.ssafy.ollana.common.util.CursorUtil;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.PaginateUtil;
 import com.ssafy.ollana.footprint.persistent.entity.BattleHistory;
@@ -39,6 +41,16 @@ public class BattleHistoryService {
         return new PageResponse<>("list", dtoPage);
     }
 
+    /*
+     * 나 vs 친구, 나 vs AI 기록 조회 (keyset 페이지네이션, count 쿼리 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<UserVersusOtherResponseDto> getHikingBattleRecordsByCursor(Integer userId, String cursor, int size) {
+        CursorUtil.checkSize(size);
+        List<BattleHistory> rows = battleHistoryRepository.findByUserIdBefore(userId, CursorUtil.decode(cursor), size + 1);
+        return CursorResponse.of("list", rows, size, BattleHistory::getId, UserVersusOtherResponseDto::from);
+    }
+
     public void saveBattleHistoryAfterTracking(User user, User opponent,
                                                Mountain mountain, Path path,
                                                Integer recordId, Integer finalTime) {
@@ -1,5 +1,7 @@
 package com.ssafy.ollana.footprint.service;
 
+import com.ssafy.ollana.common.util.CursorResponse;
+import com.ssafy.ollana.common.util.CursorUtil;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.PaginateUtil;
 import com.ssafy.ollana.footprint.persistent.entity.Footprint;
@@ -56,6 +58,32 @@ public class FootprintService {
     }
 
 
+    /*
+     * 발자취 목록 조회 (keyset 페이지네이션, count 쿼리 없음)
+     */
+    @Transactional(readOnly = true)
+    public FootprintCursorResponseDto getFootprintListByCursor(Integer userId, String cursor, int size) {
+        CursorUtil.checkSize(size);
+        List<Footprint> rows = footprintRepository.findByUserIdBefore(userId, CursorUtil.decode(cursor), size + 1);
+        double totalDistance = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."))
+                .getTotalDistance();
+
+        CursorResponse<FootprintResponseDto> page = CursorResponse.of("mountains", rows, size, Footprint::getId,
+                footprint -> FootprintResponseDto.builder()
+                        .footprintId(footprint.getId())
+                        .mountainName(footprint.getMountain().getMountainName())
+                        .imgUrl(footprint.getMountain().getMountainBadge())
+                        .build());
+
+        return FootprintCursorResponseDto.builder()
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .totalDistance(totalDistance)
+                .mountains(page.getData().get("mountains"))
+                .build();
+    }
+
     /*
      * 특정 발자취 조회
      */
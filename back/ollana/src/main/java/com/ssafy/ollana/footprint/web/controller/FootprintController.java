@@ -3,6 +3,7 @@ package com.ssafy.ollana.footprint.web.controller;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
 import com.ssafy.ollana.footprint.service.FootprintService;
+import com.ssafy.ollana.footprint.web.dto.response.FootprintCursorResponseDto;
 import com.ssafy.ollana.footprint.web.dto.response.FootprintListResponseDto;
 import com.ssafy.ollana.footprint.web.dto.response.FootprintResponseDto;
 import com.ssafy.ollana.footprint.web.dto.response.LatestFootprintDescriptionResponseDto;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 
@@ -28,9 +30,16 @@ public class FootprintController {
      * 발자취 목록 조회
      */
     @GetMapping
-    public ResponseEntity<Response<FootprintListResponseDto>> getFootprintList(
+    public ResponseEntity<Response<?>> getFootprintList(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PageableDefault(size = 9) Pageable pageable) {
+            @PageableDefault(size = 9) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+
+        // cursor 가 있으면 keyset 페이지네이션 (빈 문자열이면 첫 페이지)
+        if (cursor != null) {
+            FootprintCursorResponseDto response = footprintService.getFootprintListByCursor(userDetails.getUser().getId(), cursor, pageable.getPageSize());
+            return ResponseEntity.ok(Response.success(response));
+        }
 
         FootprintListResponseDto response = footprintService.getFootprintList(userDetails.getUser().getId(), pageable);
         return ResponseEntity.ok(Response.success(response));
@@ -1,6 +1,7 @@
 package com.ssafy.ollana.footprint.web.controller;
 
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
 import com.ssafy.ollana.footprint.persistent.entity.enums.BattleType;
@@ -72,9 +73,16 @@ public class HikingHistoryController {
      * 나 vs 친구, 나 vs AI 기록 조회
      */
     @GetMapping("/battle")
-    public ResponseEntity<Response<PageResponse<UserVersusOtherResponseDto>>> getHikingBattleRecords(
+    public ResponseEntity<Response<?>> getHikingBattleRecords(
                                                 @AuthenticationPrincipal CustomUserDetails userDetails,
-                                                @PageableDefault(size = 9) Pageable pageable) {
+                                                @PageableDefault(size = 9) Pageable pageable,
+                                                @RequestParam(required = false) String cursor) {
+
+        // cursor 가 있으면 keyset 페이지네이션 (빈 문자열이면 첫 페이지)
+        if (cursor != null) {
+            CursorResponse<UserVersusOtherResponseDto> response = battleHistoryService.getHikingBattleRecordsByCursor(userDetails.getUser().getId(), cursor, pageable.getPageSize());
+            return ResponseEntity.ok(Response.success(response));
+        }
 
         PageResponse<UserVersusOtherResponseDto> response = battleHistoryService.getHikingBattleRecords(userDetails.getUser().getId(), pageable);
         return ResponseEntity.ok(Response.success(response));
@@ -0,0 +1,17 @@
+package com.ssafy.ollana.footprint.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FootprintCursorResponseDto {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    private boolean hasNext;
+    private double totalDistance;
+    private List<FootprintResponseDto> mountains;
+}
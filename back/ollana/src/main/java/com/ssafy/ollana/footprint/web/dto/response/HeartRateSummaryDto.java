@@ -0,0 +1,33 @@
+package com.ssafy.ollana.footprint.web.dto.response;
+
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class HeartRateSummaryDto {
+    private Integer min;
+    private Integer p50;
+    private Integer p90;
+    private List<Integer> zoneSeconds;  // zone 1 ~ 5 (최대 심박 대비 50 / 60 / 70 / 80 / 90% 이상)
+    private Double drift;               // 시간당 심박 변화량 (bpm/h)
+
+    // 심박 요약이 없는 이전 기록이면 null
+    public static HeartRateSummaryDto from(HikingHistory history) {
+        if (history.getMinHeartRate() == null) {
+            return null;
+        }
+
+        return HeartRateSummaryDto.builder()
+                                  .min(history.getMinHeartRate())
+                                  .p50(history.getHeartRateP50())
+                                  .p90(history.getHeartRateP90())
+                                  .zoneSeconds(List.of(history.getZone1Seconds(), history.getZone2Seconds(),
+                                          history.getZone3Seconds(), history.getZone4Seconds(), history.getZone5Seconds()))
+                                  .drift(history.getHeartRateDrift())
+                                  .build();
+    }
+}
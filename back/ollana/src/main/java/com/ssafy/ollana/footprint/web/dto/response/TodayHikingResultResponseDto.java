@@ -14,6 +14,7 @@ public class TodayHikingResultResponseDto {
     private int maxHeartRate;
     private double averageHeartRate;
     private int time;
+    private HeartRateSummaryDto heartRateSummary;
 
     public static TodayHikingResultResponseDto from(HikingHistory history) {
         return TodayHikingResultResponseDto.builder()
@@ -22,6 +23,7 @@ public class TodayHikingResultResponseDto {
                                           .maxHeartRate(history.getMaxHeartRate())
                                           .averageHeartRate(history.getAverageHeartRate())
                                           .time(history.getHikingTime())
+                                          .heartRateSummary(HeartRateSummaryDto.from(history))
                                           .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.mountain.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class ImageHarvestInProgressException extends BusinessException {
+    public ImageHarvestInProgressException() {
+        super("산 이미지를 수집 중입니다. 완료 후 다시 시도해주세요.", "M-002");
+    }
+}
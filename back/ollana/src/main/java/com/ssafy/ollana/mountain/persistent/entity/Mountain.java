@@ -2,6 +2,7 @@ package com.ssafy.ollana.mountain.persistent.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.locationtech.jts.geom.Point;
 
 import java.util.List;
@@ -39,6 +40,7 @@ public class Mountain {
 
 	private String mountainBadge;
 
+	@BatchSize(size = 100)
 	@OneToMany(mappedBy = "mountain", fetch = FetchType.LAZY)
 	private List<MountainImg> mountainImgs;
 }
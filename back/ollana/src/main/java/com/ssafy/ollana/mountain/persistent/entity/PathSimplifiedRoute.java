@@ -0,0 +1,31 @@
+package com.ssafy.ollana.mountain.persistent.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.locationtech.jts.geom.LineString;
+
+/*
+ * 등산로 단순화 경로 (RouteDetail LOW / MID)
+ * - 목록 / 검색 응답에서 원본 route 를 읽지 않도록 따로 저장, 기동 시 DB 에서 다시 계산
+ */
+@Getter
+@Entity
+@Table(name = "path_simplified_route")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class PathSimplifiedRoute {
+
+	@Id
+	@Column(name = "path_id")
+	private Integer pathId;
+
+	@Column(columnDefinition = "geometry(LineString, 4326)")
+	private LineString routeLow;
+
+	@Column(columnDefinition = "geometry(LineString, 4326)")
+	private LineString routeMid;
+}
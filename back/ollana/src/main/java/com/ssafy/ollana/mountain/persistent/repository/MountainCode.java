@@ -0,0 +1,7 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+// 산 id, 산 코드 projection
+public interface MountainCode {
+    Integer getId();
+    String getMntnCode();
+}
@@ -2,6 +2,7 @@ package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MountainCustomRepository {
@@ -11,4 +12,7 @@ public interface MountainCustomRepository {
     // 해당 산이 사용자의 위치를 기준으로 반경 15km 이내에 존재하는지 검증
     boolean isMountainWithin10km(Integer mountainId, double lat, double lng);
 
+    // 산 목록 keyset 페이지네이션 (id 오름차순, lastId 가 null 이면 첫 페이지)
+    List<Mountain> findMountainsAfter(Integer lastId, int limit);
+
 }
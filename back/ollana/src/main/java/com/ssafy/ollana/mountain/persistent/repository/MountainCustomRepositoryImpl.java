@@ -1,5 +1,6 @@
 package com.ssafy.ollana.mountain.persistent.repository;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -8,11 +9,14 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
+import static com.ssafy.ollana.mountain.persistent.entity.QMountain.mountain;
+
 @Repository
 @RequiredArgsConstructor
 public class MountainCustomRepositoryImpl implements MountainCustomRepository {
 
     private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Optional<Mountain> findNearestMountain(double lat, double lng) {
@@ -59,4 +63,14 @@ public class MountainCustomRepositoryImpl implements MountainCustomRepository {
         return ((Number) result).intValue() > 0;
     }
 
+    @Override
+    public List<Mountain> findMountainsAfter(Integer lastId, int limit) {
+        return queryFactory
+                .selectFrom(mountain)
+                .where(lastId != null ? mountain.id.gt(lastId) : null)
+                .orderBy(mountain.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
 }
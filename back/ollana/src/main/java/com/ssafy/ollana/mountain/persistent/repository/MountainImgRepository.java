@@ -2,6 +2,14 @@ package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.MountainImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MountainImgRepository extends JpaRepository<MountainImg, Integer> {
+
+    // 산 이미지 url 목록
+    @Query("SELECT i.image FROM MountainImg i WHERE i.mountain.id = :mountainId ORDER BY i.id")
+    List<String> findImagesByMountainId(@Param("mountainId") Integer mountainId);
 }
@@ -0,0 +1,11 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+import org.locationtech.jts.geom.Point;
+
+// 산 위치 projection
+public interface MountainLocation {
+    Integer getId();
+    Point getGeom();
+    double getMountainLatitude();
+    double getMountainLongitude();
+}
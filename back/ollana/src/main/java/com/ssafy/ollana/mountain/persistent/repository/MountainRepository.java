@@ -1,8 +1,10 @@
 package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +16,33 @@ public interface MountainRepository extends JpaRepository<Mountain, Integer>, Mo
     @Query("SELECT m.mntnCode FROM Mountain m")
     List<String> findAllMntnCode();
 
+    // 산 코드 -> 산 id 매핑
+    @Query("SELECT m.id AS id, m.mntnCode AS mntnCode FROM Mountain m WHERE m.mntnCode IS NOT NULL")
+    List<MountainCode> findAllCodes();
+
+    // 공간 인덱스 구성을 위한 산 위치 목록
+    @Query("SELECT m.id AS id, m.geom AS geom, m.mountainLatitude AS mountainLatitude, m.mountainLongitude AS mountainLongitude FROM Mountain m")
+    List<MountainLocation> findAllLocations();
+
+    // 자동완성 인덱스 구성을 위한 산 목록
+    @Query("SELECT m.id AS id, m.mountainName AS mountainName, m.mountainHeight AS mountainHeight, m.mountainLoc AS mountainLoc FROM Mountain m")
+    List<MountainSuggestion> findAllSuggestions();
+
     // 산 이름 검색
     List<Mountain> findTop10ByMountainNameContaining(String mountainName);
+
+    // 산 이름 검색 (pg_trgm GIN 인덱스 사용)
+    @Query(value = """
+            SELECT * FROM mountain
+            WHERE mountain_name ILIKE '%' || :mountainName || '%'
+            ORDER BY similarity(mountain_name, :mountainName) DESC
+            LIMIT 10
+            """, nativeQuery = true)
+    List<Mountain> findTop10ByTrigram(@Param("mountainName") String mountainName);
+
     List<Mountain> findByMountainNameContaining(String mountainName);
+
+    // 산 이름 검색 (이미지 함께 조회)
+    @EntityGraph(attributePaths = "mountainImgs")
+    List<Mountain> findWithImgsByMountainNameContaining(String mountainName);
 }
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+// 산 자동완성 projection
+public interface MountainSuggestion {
+    Integer getId();
+    String getMountainName();
+    double getMountainHeight();
+    String getMountainLoc();
+}
@@ -0,0 +1,8 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+// 등산로 끝 좌표 projection (route 전체를 읽지 않고 DB 에서 계산)
+public interface PathEndpoints {
+    Integer getId();
+    Double getEndLatitude();
+    Double getEndLongitude();
+}
@@ -2,9 +2,38 @@ package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PathRepository extends JpaRepository<Path, Integer> {
 
     List<Path> findByMountainId(Integer mountainId);
+
+    // 여러 산의 등산로를 한 번에 조회
+    List<Path> findByMountainIdIn(Collection<Integer> mountainIds);
+
+    // 여러 산의 등산로를 단순화 경로와 함께 조회 (원본 route 는 읽지 않음)
+    @Query("SELECT p.id AS id, p.mountain.id AS mountainId, p.pathName AS pathName, p.pathLength AS pathLength, " +
+           "p.pathTime AS pathTime, s.routeLow AS routeLow, s.routeMid AS routeMid " +
+           "FROM Path p LEFT JOIN PathSimplifiedRoute s ON s.pathId = p.id " +
+           "WHERE p.mountain.id IN :mountainIds ORDER BY p.id")
+    List<PathRouteView> findRouteViewsByMountainIdIn(@Param("mountainIds") Collection<Integer> mountainIds);
+
+    // 등산로 메타데이터 인덱스 구성을 위한 끝 좌표 목록
+    @Query(value = ENDPOINTS_SELECT + " WHERE p.route IS NOT NULL", nativeQuery = true)
+    List<PathEndpoints> findAllEndpoints();
+
+    @Query(value = ENDPOINTS_SELECT + " WHERE p.path_id = :pathId AND p.route IS NOT NULL", nativeQuery = true)
+    Optional<PathEndpoints> findEndpointsById(@Param("pathId") Integer pathId);
+
+    String ENDPOINTS_SELECT = """
+            SELECT p.path_id AS "id",
+                   ST_Y(ST_EndPoint(p.route)) AS "endLatitude",
+                   ST_X(ST_EndPoint(p.route)) AS "endLongitude"
+            FROM path p
+            """;
 }
@@ -0,0 +1,14 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+import org.locationtech.jts.geom.LineString;
+
+// 등산로 목록 projection (원본 route 대신 저장된 단순화 경로, 아직 계산되지 않았으면 null)
+public interface PathRouteView {
+    Integer getId();
+    Integer getMountainId();
+    String getPathName();
+    Double getPathLength();
+    String getPathTime();
+    LineString getRouteLow();
+    LineString getRouteMid();
+}
@@ -0,0 +1,29 @@
+package com.ssafy.ollana.mountain.persistent.repository;
+
+import com.ssafy.ollana.mountain.persistent.entity.PathSimplifiedRoute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PathSimplifiedRouteRepository extends JpaRepository<PathSimplifiedRoute, Integer> {
+
+    // 모든 등산로의 단순화 경로를 DB 에서 계산해 저장 (점이 2개 미만으로 줄어들면 원본 사용)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO path_simplified_route (path_id, route_low, route_mid)
+            SELECT s.path_id,
+                   CASE WHEN ST_NPoints(s.low) >= 2 THEN s.low ELSE s.route END,
+                   CASE WHEN ST_NPoints(s.mid) >= 2 THEN s.mid ELSE s.route END
+            FROM (SELECT p.path_id,
+                         p.route,
+                         ST_Simplify(p.route, :lowTolerance, true) AS low,
+                         ST_Simplify(p.route, :midTolerance, true) AS mid
+                  FROM path p
+                  WHERE p.route IS NOT NULL) s
+            ON CONFLICT (path_id) DO UPDATE SET route_low = EXCLUDED.route_low, route_mid = EXCLUDED.route_mid
+            """, nativeQuery = true)
+    int refreshAll(@Param("lowTolerance") double lowTolerance, @Param("midTolerance") double midTolerance);
+}
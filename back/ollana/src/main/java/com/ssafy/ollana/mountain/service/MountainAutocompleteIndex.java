@@ -0,0 +1,226 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
+import com.ssafy.ollana.footprint.persistent.repository.MountainPopularity;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.MountainSuggestion;
+import com.ssafy.ollana.tracking.web.dto.response.MountainAutoCompleteResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 산 이름 자동완성 메모리 인덱스
+ * - 글자(음절) 및 초성 단위 역색인, 질의에서 가장 드문 글자의 후보만 검사
+ * - "ㅂㅎ", "북ㅎ" 처럼 초성이 섞인 질의 지원
+ * - 정렬 : 접두 일치 > 발자취 수(인기도) > 이름 길이 > 이름
+ * - 적재 전이거나 오래된 경우 isReady() 가 false 이며 호출 측에서 DB 쿼리로 대체
+ * - mountain.autocomplete.trigram-enabled 이면 대체 쿼리용 pg_trgm GIN 인덱스 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MountainAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] EMPTY = new int[0];
+
+    private final MountainRepository mountainRepository;
+    private final FootprintRepository footprintRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${mountain.autocomplete.refresh-ms:600000}")
+    private long refreshMillis;
+
+    @Value("${mountain.autocomplete.trigram-enabled:false}")
+    private boolean trigramEnabled;
+
+    private volatile Snapshot snapshot;
+
+    private record Entry(MountainAutoCompleteResponseDto dto, char[] name, long popularity) {
+    }
+
+    private record Match(Entry entry, boolean prefix) {
+    }
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparing((Match match) -> !match.prefix())
+            .thenComparing((Match match) -> match.entry().popularity(), Comparator.reverseOrder())
+            .thenComparingInt((Match match) -> match.entry().name().length)
+            .thenComparing((Match match) -> match.entry().dto().getMountainName());
+
+    // postings : 글자(또는 초성) -> 해당 글자를 포함하는 entry 인덱스 (오름차순)
+    private record Snapshot(Entry[] entries, Map<Character, int[]> postings, long loadedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (trigramEnabled) {
+            createTrigramIndex();
+        }
+        refresh();
+    }
+
+    @EventListener(MountainChangedEvent.class)
+    public void onMountainChanged(MountainChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${mountain.autocomplete.refresh-ms:600000}",
+               fixedDelayString = "${mountain.autocomplete.refresh-ms:600000}")
+    public void refresh() {
+        try {
+            Map<Integer, Long> popularity = new HashMap<>();
+            for (MountainPopularity row : footprintRepository.countFootprintsByMountain()) {
+                popularity.put(row.getMountainId(), row.getFootprintCount());
+            }
+
+            List<MountainSuggestion> mountains = mountainRepository.findAllSuggestions();
+            Entry[] entries = new Entry[mountains.size()];
+            Map<Character, List<Integer>> building = new HashMap<>();
+
+            for (int i = 0; i < entries.length; i++) {
+                MountainSuggestion mountain = mountains.get(i);
+                MountainAutoCompleteResponseDto dto = MountainAutoCompleteResponseDto.builder()
+                        .mountainId(mountain.getId())
+                        .mountainName(mountain.getMountainName())
+                        .mountainHeight(mountain.getMountainHeight())
+                        .mountainLoc(mountain.getMountainLoc())
+                        .build();
+                char[] name = normalize(mountain.getMountainName());
+                entries[i] = new Entry(dto, name, popularity.getOrDefault(mountain.getId(), 0L));
+
+                for (char c : name) {
+                    addPosting(building, c, i);
+                    char chosung = chosungOf(c);
+                    if (chosung != 0) {
+                        addPosting(building, chosung, i);
+                    }
+                }
+            }
+
+            Map<Character, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((c, ids) -> postings.put(c, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+            snapshot = new Snapshot(entries, postings, System.currentTimeMillis());
+            log.info("산 자동완성 인덱스 적재 완료 -> count : {}, keys : {}", entries.length, postings.size());
+        } catch (Exception e) {
+            log.error("산 자동완성 인덱스 적재 실패", e);
+        }
+    }
+
+    public boolean isReady() {
+        Snapshot current = snapshot;
+        return current != null && System.currentTimeMillis() - current.loadedAt() < refreshMillis * 2;
+    }
+
+    public boolean isTrigramEnabled() {
+        return trigramEnabled;
+    }
+
+    public List<MountainAutoCompleteResponseDto> suggest(String mountainName) {
+        Snapshot current = snapshot;
+        char[] query = normalize(mountainName);
+        if (query.length == 0) {
+            return List.of();
+        }
+
+        // 질의 글자 중 posting 이 가장 짧은 글자의 후보만 검사
+        int[] candidates = null;
+        for (char c : query) {
+            int[] posting = current.postings().getOrDefault(c, EMPTY);
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int index : candidates) {
+            Entry entry = current.entries()[index];
+            int position = indexOf(entry.name(), query);
+            if (position >= 0) {
+                matches.add(new Match(entry, position == 0));
+            }
+        }
+
+        return matches.stream()
+                      .sorted(RANKING)
+                      .limit(MAX_SUGGESTIONS)
+                      .map(match -> match.entry().dto())
+                      .toList();
+    }
+
+    // 이름에서 질의가 처음 일치하는 위치 (초성 질의 글자는 이름 글자의 초성과 비교)
+    private static int indexOf(char[] name, char[] query) {
+        outer:
+        for (int start = 0; start + query.length <= name.length; start++) {
+            for (int i = 0; i < query.length; i++) {
+                char n = name[start + i];
+                char q = query[i];
+                if (n != q && chosungOf(n) != q) {
+                    continue outer;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+
+    // 한글 음절의 초성 (음절이 아니면 0)
+    static char chosungOf(char c) {
+        if (c < 0xAC00 || c > 0xD7A3) {
+            return 0;
+        }
+        return CHOSUNG[(c - 0xAC00) / 588];
+    }
+
+    // 공백 제거 및 소문자화
+    private static char[] normalize(String value) {
+        if (value == null) {
+            return new char[0];
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString().toCharArray();
+    }
+
+    private static void addPosting(Map<Character, List<Integer>> building, char c, int index) {
+        List<Integer> ids = building.computeIfAbsent(c, k -> new ArrayList<>());
+        // 같은 이름에 같은 글자가 여러 번 나오는 경우 중복 제외
+        if (ids.isEmpty() || ids.get(ids.size() - 1) != index) {
+            ids.add(index);
+        }
+    }
+
+    private void createTrigramIndex() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_mountain_name_trgm ON mountain USING gin (mountain_name gin_trgm_ops)");
+            log.info("산 이름 pg_trgm 인덱스 확인 완료");
+        } catch (Exception e) {
+            log.warn("산 이름 pg_trgm 인덱스 생성 실패 -> {}", e.getMessage());
+            trigramEnabled = false;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.ollana.mountain.service;
+
+// 산 정보가 추가/변경되었을 때 발행 (메모리에 올려둔 산 데이터 갱신용)
+public record MountainChangedEvent(Integer mountainId) {
+}
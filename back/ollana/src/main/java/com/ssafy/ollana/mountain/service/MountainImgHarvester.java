@@ -0,0 +1,280 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import com.ssafy.ollana.mountain.persistent.repository.MountainCode;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 산림청 산 이미지 API 수집
+ * - 산 코드 별 요청을 제한된 동시성으로 실행 (호스트 별 동시 요청 수 제한)
+ * - 응답은 문자열로 모으지 않고 StAX 로 스트리밍 파싱
+ * - 이미 저장된 (산, url) 은 제외하고 JDBC batch insert
+ * - 완료한 산 코드는 Redis set 에 기록해 중단 후 재실행 시 건너뜀
+ * - 요청 스레드와 분리된 백그라운드 작업 스레드 풀에서 한 번에 하나만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MountainImgHarvester {
+
+    private static final String CHECKPOINT_KEY = "mountain-img-harvest:done";
+    private static final String IMAGE_URL_PREFIX = "www.forest.go.kr/images/data/down/mountain/";
+    private static final String INSERT_SQL = "INSERT INTO mountain_img (mountain_id, mountain_img_url) VALUES (?, ?)";
+
+    private final MountainRepository mountainRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Qualifier(AsyncConfig.BACKGROUND_JOB_EXECUTOR)
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    @Qualifier(AsyncConfig.IMG_HARVEST_EXECUTOR)
+    private final ThreadPoolTaskExecutor harvestExecutor;
+
+    @Value("${api.service-key}")
+    private String serviceKey;
+
+    @Value("${mountain.img-harvest.api-url:https://apis.data.go.kr/1400000/service/cultureInfoService2/mntInfoImgOpenAPI2}")
+    private String apiUrl;
+
+    @Value("${mountain.img-harvest.per-host-limit:4}")
+    private int perHostLimit;
+
+    @Value("${mountain.img-harvest.timeout-ms:10000}")
+    private int timeoutMillis;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    public record HarvestResult(int codes, int skipped, int failed, long fetchedImages, long insertedImages, long elapsedMillis) {
+    }
+
+    // 한 산 코드의 처리 결과
+    private record CodeResult(boolean success, int fetched, int inserted) {
+    }
+
+    // 응답 파싱 결과 (오류 응답이면 error 에 메시지)
+    private record ParsedResponse(List<String> fileNames, String error) {
+    }
+
+    /*
+     * 별도 스레드에서 수집 시작 (이미 수집 중이면 false)
+     */
+    public boolean harvestAsync(boolean reset) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            backgroundJobExecutor.execute(() -> {
+                try {
+                    harvest(reset);
+                } catch (Exception e) {
+                    log.error("산 이미지 수집 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    private HarvestResult harvest(boolean reset) {
+        long startNanos = System.nanoTime();
+        if (reset) {
+            redisTemplate.delete(CHECKPOINT_KEY);
+        }
+
+        Set<String> done = redisTemplate.opsForSet().members(CHECKPOINT_KEY);
+        Set<String> completed = done != null ? done : Set.of();
+
+        List<MountainCode> targets = mountainRepository.findAllCodes().stream()
+                .filter(code -> !completed.contains(code.getMntnCode()))
+                .toList();
+        Set<String> existing = ConcurrentHashMap.newKeySet();
+        existing.addAll(loadExistingImages());
+
+        HttpClient client = HttpClient.newBuilder()
+                                      .connectTimeout(Duration.ofMillis(timeoutMillis))
+                                      .build();
+
+        LongAdder fetched = new LongAdder();
+        LongAdder inserted = new LongAdder();
+        int failed = 0;
+        List<Future<CodeResult>> futures = new ArrayList<>(targets.size());
+        try {
+            for (MountainCode target : targets) {
+                futures.add(harvestExecutor.submit(() -> harvestCode(client, target, existing)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                CodeResult result;
+                try {
+                    result = futures.get(i).get();
+                } catch (Exception e) {
+                    result = new CodeResult(false, 0, 0);
+                }
+
+                if (result.success()) {
+                    fetched.add(result.fetched());
+                    inserted.add(result.inserted());
+                } else {
+                    failed++;
+                }
+
+                if ((i + 1) % 100 == 0) {
+                    log.info("산 이미지 수집 진행 -> {}/{}, 저장 : {}", i + 1, futures.size(), inserted.sum());
+                }
+            }
+        } finally {
+            // 중간에 실패한 경우 남은 요청 취소 (풀은 공유하므로 종료하지 않음)
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        HarvestResult result = new HarvestResult(targets.size(), completed.size(), failed,
+                fetched.sum(), inserted.sum(), elapsedMillis);
+        log.info("산 이미지 수집 완료 -> 대상 : {}, 이전 완료 : {}, 실패 : {}, 이미지 : {}, 저장 : {}, {}ms ({} codes/sec)",
+                result.codes(), result.skipped(), result.failed(), result.fetchedImages(), result.insertedImages(),
+                elapsedMillis, result.codes() * 1000L / elapsedMillis);
+        return result;
+    }
+
+    private CodeResult harvestCode(HttpClient client, MountainCode target, Set<String> existing) {
+        String mntnCode = target.getMntnCode();
+        try {
+            ParsedResponse response = fetch(client, mntnCode);
+            if (response.error() != null) {
+                log.error("산 이미지 API 오류: mntnCode={}, error={}", mntnCode, response.error());
+                return new CodeResult(false, 0, 0);
+            }
+
+            List<Object[]> rows = new ArrayList<>();
+            for (String fileName : response.fileNames()) {
+                String imgUrl = IMAGE_URL_PREFIX + fileName;
+                if (existing.add(target.getId() + "|" + imgUrl)) {
+                    rows.add(new Object[]{target.getId(), imgUrl});
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+
+            redisTemplate.opsForSet().add(CHECKPOINT_KEY, mntnCode);
+            return new CodeResult(true, response.fileNames().size(), rows.size());
+        } catch (Exception e) {
+            log.error("산 이미지 저장 중 오류 발생: mntnCode={}, error={}", mntnCode, e.getMessage());
+            return new CodeResult(false, 0, 0);
+        }
+    }
+
+    private ParsedResponse fetch(HttpClient client, String mntnCode) throws IOException, InterruptedException, XMLStreamException {
+        URI uri = URI.create(apiUrl + "?mntiListNo=" + URLEncoder.encode(mntnCode, StandardCharsets.UTF_8)
+                + "&ServiceKey=" + serviceKey);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                                         .timeout(Duration.ofMillis(timeoutMillis))
+                                         .GET()
+                                         .build();
+
+        Semaphore permits = hostPermits.computeIfAbsent(uri.getHost(), host -> new Semaphore(Math.max(1, perHostLimit)));
+        permits.acquire();
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    return new ParsedResponse(List.of(), "HTTP " + response.statusCode());
+                }
+                return parse(body);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // <item><imgfilename>..</imgfilename></item> 목록과 <errMsg>, <returnAuthMsg> 를 스트리밍으로 읽음
+    private ParsedResponse parse(InputStream body) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(body, StandardCharsets.UTF_8.name());
+        try {
+            List<String> fileNames = new ArrayList<>();
+            String error = null;
+            boolean inItem = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("item".equals(name)) {
+                        inItem = true;
+                    } else if (inItem && "imgfilename".equals(name)) {
+                        String fileName = reader.getElementText().trim();
+                        if (!fileName.isEmpty()) {
+                            fileNames.add(fileName);
+                        }
+                    } else if ("errMsg".equals(name) || "returnAuthMsg".equals(name)) {
+                        String message = reader.getElementText().trim();
+                        error = error == null ? message : error + " / " + message;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                    inItem = false;
+                }
+            }
+            return new ParsedResponse(fileNames, error);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private Set<String> loadExistingImages() {
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT mountain_id, mountain_img_url FROM mountain_img",
+                rs -> {
+                    existing.add(rs.getInt(1) + "|" + rs.getString(2));
+                });
+        return existing;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,126 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.common.util.Response;
+import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * /mountain/map 응답 스냅샷
+ * - 산 목록 응답을 한 번만 직렬화해 JSON / gzip 바이트와 ETag(SHA-256) 로 보관
+ * - 지도 영역(viewport) 조회용 STRtree 도 함께 생성
+ * - 애플리케이션 시작 시, 주기적으로 / 산 정보 변경 시 다시 생성 (내용이 같으면 ETag 도 같음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MountainMapSnapshot {
+
+    private final MountainService mountainService;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    // tree : 좌표 -> MountainMapResponseDto (viewport 조회용)
+    public record Snapshot(List<MountainMapResponseDto> mountains, STRtree tree, byte[] json, byte[] gzip, String etag) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener(MountainChangedEvent.class)
+    public void onMountainChanged(MountainChangedEvent event) {
+        rebuild();
+    }
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Scheduled(initialDelayString = "${mountain.map-snapshot.refresh-ms:3600000}",
+               fixedDelayString = "${mountain.map-snapshot.refresh-ms:3600000}")
+    public void rebuild() {
+        try {
+            Snapshot built = build();
+            synchronized (this) {
+                snapshot = built;
+            }
+            log.info("산 지도 스냅샷 생성 완료 -> count : {}, json : {}B, gzip : {}B, etag : {}",
+                    built.mountains().size(), built.json().length, built.gzip().length, built.etag());
+        } catch (Exception e) {
+            log.error("산 지도 스냅샷 생성 실패", e);
+        }
+    }
+
+    private Snapshot build() {
+        // findAll 순서는 보장되지 않으므로 id 순으로 고정해야 내용이 같을 때 ETag 도 같음
+        List<MountainMapResponseDto> mountains = mountainService.getMountains().stream()
+                .sorted(Comparator.comparingInt(MountainMapResponseDto::getId))
+                .toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Response.success(mountains));
+            return new Snapshot(mountains, index(mountains), json, gzip(json), etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("산 지도 응답 직렬화 실패", e);
+        }
+    }
+
+    private static STRtree index(List<MountainMapResponseDto> mountains) {
+        STRtree tree = new STRtree();
+        for (MountainMapResponseDto mountain : mountains) {
+            tree.insert(new Envelope(mountain.getLongitude(), mountain.getLongitude(),
+                    mountain.getLatitude(), mountain.getLatitude()), mountain);
+        }
+        tree.build();
+        return tree;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
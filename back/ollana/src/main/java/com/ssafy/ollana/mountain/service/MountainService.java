@@ -1,16 +1,20 @@
 package com.ssafy.ollana.mountain.service;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.mountain.web.dto.response.MountainDetailResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.tracking.service.RouteDetail;
+import com.ssafy.ollana.tracking.service.RouteEncoding;
 
 import java.util.List;
 
 public interface MountainService {
-    void saveMountainImg();
+    boolean saveMountainImg(boolean reset);
     List<MountainMapResponseDto> getMountains();
     PageResponse<MountainListResponseDto> getMountainList(int page, int size);
-    MountainDetailResponseDto getMountainDetail(int mountainId);
+    CursorResponse<MountainListResponseDto> getMountainListByCursor(String cursor, int size);
+    MountainDetailResponseDto getMountainDetail(int mountainId, RouteDetail detail, RouteEncoding encoding);
     List<MountainListResponseDto> searchMountain(String mountainName);
 }
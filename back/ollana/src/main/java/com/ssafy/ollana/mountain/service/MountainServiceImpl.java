@@ -1,57 +1,55 @@
 package com.ssafy.ollana.mountain.service;
 
+import com.ssafy.ollana.common.config.AsyncConfig;
+import com.ssafy.ollana.common.util.CursorResponse;
+import com.ssafy.ollana.common.util.CursorUtil;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.mountain.exception.MountainNotFoundException;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.MountainImg;
-import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.persistent.repository.MountainImgRepository;
 import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
-import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
 import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
-import com.ssafy.ollana.mountain.web.dto.OpenWeatherDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainDetailResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.tracking.service.PathRouteService;
+import com.ssafy.ollana.tracking.service.RouteDetail;
+import com.ssafy.ollana.tracking.service.RouteEncoding;
 import com.ssafy.ollana.tracking.web.dto.response.PathForTrackingResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.StringReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MountainServiceImpl implements MountainService {
 
-    @Value("${api.service-key}")
-    private String serviceKey;
-
-    @Value("${openweather.api.key}")
-    private String openweather;
-
-    private final RestClient restClient;
-    private final PathRepository pathRepository;
+    private final MountainWeatherService mountainWeatherService;
+    private final MountainImgHarvester mountainImgHarvester;
     private final MountainRepository mountainRepository;
     private final MountainImgRepository mountainImgRepository;
+    private final PathRouteService pathRouteService;
+
+    // 산 상세 구간 별 동시 조회용
+    @Qualifier(AsyncConfig.MOUNTAIN_DETAIL_EXECUTOR)
+    private final ThreadPoolTaskExecutor detailExecutor;
+
+    @Value("${mountain.detail.timeout-ms:3000}")
+    private long detailTimeoutMillis;
 
     @Override
     @Transactional(readOnly = true)
@@ -98,32 +96,62 @@ public class MountainServiceImpl implements MountainService {
 
     @Override
     @Transactional(readOnly = true)
-    public MountainDetailResponseDto getMountainDetail(int mountainId) {
-        Mountain mountain = mountainRepository.findById(mountainId)
-                .orElseThrow(MountainNotFoundException::new);
+    public CursorResponse<MountainListResponseDto> getMountainListByCursor(String cursor, int size) {
+        CursorUtil.checkSize(size);
+        List<Mountain> rows = mountainRepository.findMountainsAfter(CursorUtil.decode(cursor), size + 1);
+
+        return CursorResponse.of("mountains", rows, size, Mountain::getId, mountain -> new MountainListResponseDto(
+                mountain.getId(),
+                mountain.getMountainName(),
+                mountain.getMountainLatitude(),
+                mountain.getMountainLongitude(),
+                mountain.getMountainHeight(),
+                mountain.getMountainLoc(),
+                mountain.getLevel().name(),
+                mountain.getMountainDescription(),
+                mountain.getMountainImgs().stream()
+                        .map(MountainImg::getImage)
+                        .toList()
+        ));
+    }
 
-        // 등산로 가져오기
-        List<Path> paths = pathRepository.findByMountainId(mountainId);
+    /*
+     * 산 상세 조회
+     * - 등산로 / 이미지 / 날씨를 각각 별도 작업으로 동시에 조회 (응답 시간 = 가장 느린 구간)
+     * - 하나의 트랜잭션으로 묶지 않아 날씨(외부 API)를 기다리는 동안 DB 커넥션을 점유하지 않음
+     * - 구간 별 제한 시간을 넘기면 해당 구간은 비워서 응답
+     */
+    @Override
+    public MountainDetailResponseDto getMountainDetail(int mountainId, RouteDetail detail, RouteEncoding encoding) {
+        CompletableFuture<List<PathForTrackingResponseDto>> paths = CompletableFuture.supplyAsync(
+                () -> pathRouteService.getPaths(mountainId, detail, encoding),
+                detailExecutor);
+        CompletableFuture<List<String>> images = CompletableFuture.supplyAsync(
+                () -> mountainImgRepository.findImagesByMountainId(mountainId),
+                detailExecutor);
 
-        // Path -> dto
-        List<PathForTrackingResponseDto> pathDto = paths.stream()
-                .map(PathForTrackingResponseDto::from)
-                .toList();
+        Mountain mountain = mountainRepository.findById(mountainId)
+                .orElseThrow(() -> {
+                    paths.cancel(true);
+                    images.cancel(true);
+                    return new MountainNotFoundException();
+                });
 
         // 날씨 가져오기 (5일치)
-        MountainWeatherDto weather = getWeather(mountain);
+        CompletableFuture<MountainWeatherDto> weather = CompletableFuture.supplyAsync(
+                () -> mountainWeatherService.getWeather(mountain),
+                detailExecutor);
 
+        long deadline = System.currentTimeMillis() + detailTimeoutMillis;
         MountainDetailResponseDto response = MountainDetailResponseDto.builder()
                 .name(mountain.getMountainName())
                 .altitude(mountain.getMountainHeight())
                 .location(mountain.getMountainLoc())
                 .level(mountain.getLevel().name())
                 .description(mountain.getMountainDescription())
-                .paths(pathDto)
-                .images(mountain.getMountainImgs().stream()
-                        .map(MountainImg::getImage)
-                        .toList())
-                .weather(weather)
+                .paths(await(paths, deadline, List.of(), "paths", mountainId))
+                .images(await(images, deadline, List.of(), "images", mountainId))
+                .weather(await(weather, deadline, null, "weather", mountainId))
                 .build();
 
         return response;
@@ -132,7 +160,7 @@ public class MountainServiceImpl implements MountainService {
     @Override
     @Transactional(readOnly = true)
     public List<MountainListResponseDto> searchMountain(String mountainName) {
-        List<Mountain> mountains = mountainRepository.findByMountainNameContaining(mountainName);
+        List<Mountain> mountains = mountainRepository.findWithImgsByMountainNameContaining(mountainName);
 
         List<MountainListResponseDto> response = mountains.stream()
                 .map(mountain -> new MountainListResponseDto(
@@ -155,97 +183,24 @@ public class MountainServiceImpl implements MountainService {
 
 
     @Override
-    @Transactional
-    public void saveMountainImg() {
-        // 산 코드 리스트 가져오기
-        List<String> mntnCodeList = mountainRepository.findAllMntnCode();
-        for (String mntnCode : mntnCodeList) {
-            try {
-                // 외부 api 호출
-                String url = "https://apis.data.go.kr/1400000/service/cultureInfoService2/mntInfoImgOpenAPI2" +
-                        "?mntiListNo=" + mntnCode + "&ServiceKey=" + serviceKey;
-
-                // HttpURLConnection
-                URL apiUrl = new URL(url);
-                HttpURLConnection connection = (HttpURLConnection) apiUrl.openConnection();
-                connection.setRequestMethod("GET");
-
-                int responseCode = connection.getResponseCode();
-
-                // 응답 읽기
-                BufferedReader in;
-                if (responseCode >= 200 && responseCode < 300) {
-                    in = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
-                } else {
-                    in = new BufferedReader(new InputStreamReader(connection.getErrorStream(), StandardCharsets.UTF_8));
-                }
-
-                String inputLine;
-                StringBuilder content = new StringBuilder();
-                while ((inputLine = in.readLine()) != null) {
-                    content.append(inputLine);
-                }
-                in.close();
-                connection.disconnect();
-
-                String xml = content.toString();
-
-                // XML 파싱 및 처리
-                if (xml.contains("SERVICE_ERROR") || xml.contains("<errMsg>")) {
-                    System.out.println("API 오류 발생: " + xml);
-                    continue;
-                }
-
-                // XML 문자열 -> DOM 객체로 파싱
-                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                factory.setNamespaceAware(false); // 네임스페이스 무시
-                DocumentBuilder builder = factory.newDocumentBuilder();
-                Document document = builder.parse(new InputSource(new StringReader(xml)));
-
-                // <item> 태그 목록 가져오기
-                NodeList itemList = document.getElementsByTagName("item");
-
-                // 해당 산 가져오기
-                Mountain mountain = mountainRepository.findByMntnCode(mntnCode)
-                        .orElseThrow(() -> new MountainNotFoundException());
-
-                int count = itemList.getLength();
-                for (int i = 0; i < count; i++) {
-                    Element item = (Element) itemList.item(i);
-
-                    // imgfilename 가져오기
-                    String imgfilename = item.getElementsByTagName("imgfilename").item(0).getTextContent();
-
-                    // 이미지 url 생성 및 저장
-                    String imgUrl = "www.forest.go.kr/images/data/down/mountain/" + imgfilename;
-
-                    // 산 이미지 테이블 생성 및 저장
-                    MountainImg mountainImg = MountainImg.builder()
-                            .mountain(mountain)
-                            .image(imgUrl)
-                            .build();
-                    mountainImgRepository.save(mountainImg);
-                }
-
-            } catch (Exception e) {
-                log.error("산 이미지 저장 중 오류 발생: mntnCode={}, error={}", mntnCode, e.getMessage());
-            }
-        }
+    public boolean saveMountainImg(boolean reset) {
+        return mountainImgHarvester.harvestAsync(reset);
     }
 
-    // openweather api로 날씨 가져오기
-    private MountainWeatherDto getWeather(Mountain mountain) {
-        OpenWeatherDto response = restClient
-                .get()
-                .uri("https://api.openweathermap.org/data/3.0/onecall?lat={lat}&lon={lon}&exclude={exclude}&appid={appid}&units={units}",
-                        mountain.getMountainLatitude(),
-                        mountain.getMountainLongitude(),
-                        "current,minutely,hourly,alerts",
-                        openweather,
-                        "metric")
-                .retrieve()
-                .body(OpenWeatherDto.class);
-
-        return response.toMountainWeatherDto();
+    // 남은 시간 동안 결과를 기다리고, 시간 초과 / 실패 시 fallback
+    private <T> T await(CompletableFuture<T> future, long deadline, T fallback, String section, int mountainId) {
+        try {
+            return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("산 상세 조회 시간 초과 -> mountainId : {}, section : {}", mountainId, section);
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (ExecutionException e) {
+            log.error("산 상세 조회 실패 -> mountainId : {}, section : {}", mountainId, section, e.getCause());
+            return fallback;
+        }
     }
 }
@@ -0,0 +1,122 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.repository.MountainLocation;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.tracking.service.TrackingUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 산 위치 메모리 공간 인덱스 (JTS STRtree)
+ * - 애플리케이션 시작 시 적재, 주기적으로 / 산 정보 변경 시 재적재
+ * - 후보는 STRtree envelope 로 찾고 거리는 haversine 으로 보정
+ * - 적재 전이거나 오래된 경우 isReady() 가 false 이며 호출 측에서 PostGIS 쿼리로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MountainSpatialIndex {
+
+    public static final double SEARCH_RADIUS_METERS = 15000;
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final MountainRepository mountainRepository;
+
+    @Value("${mountain.spatial-index.refresh-ms:3600000}")
+    private long refreshMillis;
+
+    private volatile Snapshot snapshot;
+
+    private record Entry(int mountainId, double latitude, double longitude) {
+    }
+
+    private record Snapshot(STRtree tree, Map<Integer, Entry> byId, long loadedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @EventListener(MountainChangedEvent.class)
+    public void onMountainChanged(MountainChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${mountain.spatial-index.refresh-ms:3600000}",
+               fixedDelayString = "${mountain.spatial-index.refresh-ms:3600000}")
+    public void refresh() {
+        try {
+            List<MountainLocation> locations = mountainRepository.findAllLocations();
+
+            STRtree tree = new STRtree();
+            Map<Integer, Entry> byId = new HashMap<>(locations.size() * 2);
+            for (MountainLocation location : locations) {
+                double lat = location.getGeom() != null ? location.getGeom().getY() : location.getMountainLatitude();
+                double lng = location.getGeom() != null ? location.getGeom().getX() : location.getMountainLongitude();
+
+                Entry entry = new Entry(location.getId(), lat, lng);
+                tree.insert(new Envelope(lng, lng, lat, lat), entry);
+                byId.put(entry.mountainId(), entry);
+            }
+            tree.build();
+
+            snapshot = new Snapshot(tree, byId, System.currentTimeMillis());
+            log.info("산 공간 인덱스 적재 완료 -> count : {}", byId.size());
+        } catch (Exception e) {
+            log.error("산 공간 인덱스 적재 실패", e);
+        }
+    }
+
+    public boolean isReady() {
+        Snapshot current = snapshot;
+        return current != null && System.currentTimeMillis() - current.loadedAt() < refreshMillis * 2;
+    }
+
+    // 반경 15km 이내에서 가장 가까운 산 id
+    public Optional<Integer> findNearestMountainId(double lat, double lng) {
+        Snapshot current = snapshot;
+
+        Entry nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Object item : current.tree().query(searchEnvelope(lat, lng))) {
+            Entry entry = (Entry) item;
+            double distance = TrackingUtils.calculateDistance(lat, lng, entry.latitude(), entry.longitude());
+            if (distance <= SEARCH_RADIUS_METERS && distance < nearestDistance) {
+                nearest = entry;
+                nearestDistance = distance;
+            }
+        }
+
+        return Optional.ofNullable(nearest).map(Entry::mountainId);
+    }
+
+    // 해당 산이 반경 15km 이내에 있는지 여부 (인덱스에 없는 산이면 empty)
+    public Optional<Boolean> isMountainWithinRadius(Integer mountainId, double lat, double lng) {
+        Entry entry = snapshot.byId().get(mountainId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        double distance = TrackingUtils.calculateDistance(lat, lng, entry.latitude(), entry.longitude());
+        return Optional.of(distance <= SEARCH_RADIUS_METERS);
+    }
+
+    private Envelope searchEnvelope(double lat, double lng) {
+        double dLat = SEARCH_RADIUS_METERS / METERS_PER_DEGREE;
+        double dLng = SEARCH_RADIUS_METERS / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        return new Envelope(lng - dLng, lng + dLng, lat - dLat, lat + dLat);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.mountain.web.dto.response.MountainViewportResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 지도 영역(bbox) 내 산 조회
+ * - 스냅샷의 STRtree 에서 영역 내 산만 조회
+ * - cluster-max-zoom 미만이면 화면 기준 격자(grid-px) 단위로 묶어 중심 좌표와 개수 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class MountainViewportService {
+
+    private static final int MAX_ZOOM = 22;
+    private static final int TILE_SIZE = 256;
+
+    private final MountainMapSnapshot mountainMapSnapshot;
+
+    @Value("${mountain.map.cluster-max-zoom:11}")
+    private int clusterMaxZoom;
+
+    @Value("${mountain.map.cluster-grid-px:64}")
+    private int gridPixels;
+
+    // bbox : "minLng,minLat,maxLng,maxLat"
+    public MountainViewportResponseDto getMountainsInViewport(String bbox, Integer zoom) {
+        Envelope viewport = parseBbox(bbox);
+        int level = zoom == null ? MAX_ZOOM : Math.max(0, Math.min(MAX_ZOOM, zoom));
+
+        @SuppressWarnings("unchecked")
+        List<MountainMapResponseDto> inView = mountainMapSnapshot.get().tree().query(viewport);
+        List<MountainMapResponseDto> visible = inView.stream()
+                .filter(mountain -> viewport.contains(mountain.getLongitude(), mountain.getLatitude()))
+                .sorted(Comparator.comparingInt(MountainMapResponseDto::getId))
+                .toList();
+
+        if (level >= clusterMaxZoom) {
+            return MountainViewportResponseDto.builder()
+                    .zoom(level)
+                    .mountains(visible)
+                    .clusters(List.of())
+                    .build();
+        }
+
+        return cluster(visible, level);
+    }
+
+    // 격자 한 칸의 크기(도) = 360 / 2^zoom * (gridPixels / 256)
+    private MountainViewportResponseDto cluster(List<MountainMapResponseDto> visible, int zoom) {
+        double cellSize = 360.0 / (1L << zoom) * gridPixels / TILE_SIZE;
+
+        Map<Long, List<MountainMapResponseDto>> cells = new LinkedHashMap<>();
+        for (MountainMapResponseDto mountain : visible) {
+            long x = (long) Math.floor((mountain.getLongitude() + 180) / cellSize);
+            long y = (long) Math.floor((mountain.getLatitude() + 90) / cellSize);
+            cells.computeIfAbsent(x * 1_000_003L + y, key -> new ArrayList<>()).add(mountain);
+        }
+
+        List<MountainMapResponseDto> mountains = new ArrayList<>();
+        List<MountainViewportResponseDto.ClusterDto> clusters = new ArrayList<>();
+        for (List<MountainMapResponseDto> cell : cells.values()) {
+            if (cell.size() == 1) {
+                mountains.add(cell.get(0));
+                continue;
+            }
+
+            double latitude = 0;
+            double longitude = 0;
+            for (MountainMapResponseDto mountain : cell) {
+                latitude += mountain.getLatitude();
+                longitude += mountain.getLongitude();
+            }
+            clusters.add(MountainViewportResponseDto.ClusterDto.builder()
+                    .latitude(latitude / cell.size())
+                    .longitude(longitude / cell.size())
+                    .count(cell.size())
+                    .build());
+        }
+
+        return MountainViewportResponseDto.builder()
+                .zoom(zoom)
+                .mountains(mountains)
+                .clusters(clusters)
+                .build();
+    }
+
+    private Envelope parseBbox(String bbox) {
+        String[] values = bbox.split(",");
+        if (values.length != 4) {
+            throw new IllegalArgumentException("bbox 는 minLng,minLat,maxLng,maxLat 형식이어야 합니다.");
+        }
+
+        try {
+            double minLng = Double.parseDouble(values[0].trim());
+            double minLat = Double.parseDouble(values[1].trim());
+            double maxLng = Double.parseDouble(values[2].trim());
+            double maxLat = Double.parseDouble(values[3].trim());
+            if (minLng > maxLng || minLat > maxLat) {
+                throw new IllegalArgumentException("bbox 의 최소 좌표가 최대 좌표보다 큽니다.");
+            }
+            return new Envelope(minLng, maxLng, minLat, maxLat);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bbox 좌표가 올바르지 않습니다.");
+        }
+    }
+}
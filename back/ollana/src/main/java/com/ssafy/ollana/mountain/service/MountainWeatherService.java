@@ -0,0 +1,177 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import com.ssafy.ollana.mountain.web.dto.OpenWeatherDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 산 날씨 조회 (OpenWeather One Call API)
+ * - 산 별 캐시 : ttl 이내면 그대로, stale 이내면 오래된 값을 반환하며 백그라운드 갱신
+ * - 같은 산에 대한 동시 요청은 하나의 외부 호출을 공유 (single-flight)
+ * - 외부 호출이 timeout 을 넘기거나 연속 실패로 차단 중이면 날씨 없이(null) 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MountainWeatherService {
+
+    private final RestClient.Builder restClientBuilder;
+
+    @Value("${openweather.api.url:https://api.openweathermap.org}")
+    private String baseUrl;
+
+    @Value("${openweather.api.key}")
+    private String apiKey;
+
+    @Value("${openweather.cache.ttl-ms:3600000}")
+    private long ttlMillis;
+
+    @Value("${openweather.cache.stale-ms:21600000}")
+    private long staleMillis;
+
+    @Value("${openweather.timeout-ms:2000}")
+    private int timeoutMillis;
+
+    @Value("${openweather.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${openweather.circuit.open-ms:30000}")
+    private long openMillis;
+
+    @Qualifier(AsyncConfig.WEATHER_FETCH_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    private RestClient restClient;
+
+    private final Map<Integer, CachedWeather> cache = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<MountainWeatherDto>> inFlight = new ConcurrentHashMap<>();
+
+    // 연속 실패 횟수, 차단 해제 시각
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long circuitOpenUntil;
+
+    private record CachedWeather(MountainWeatherDto weather, long fetchedAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+
+        restClient = restClientBuilder.baseUrl(baseUrl)
+                                      .requestFactory(requestFactory)
+                                      .build();
+    }
+
+    public MountainWeatherDto getWeather(Mountain mountain) {
+        long now = System.currentTimeMillis();
+        CachedWeather cached = cache.get(mountain.getId());
+
+        if (cached != null && now - cached.fetchedAt() < ttlMillis) {
+            return cached.weather();
+        }
+
+        // 오래된 값이 있으면 바로 반환하고 갱신은 백그라운드에서
+        if (cached != null && now - cached.fetchedAt() < staleMillis) {
+            fetch(mountain);
+            return cached.weather();
+        }
+
+        CompletableFuture<MountainWeatherDto> future = fetch(mountain);
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("날씨 조회 시간 초과 -> mountainId : {}", mountain.getId());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 진행 중인 호출이 있으면 공유, 차단 중이면 null
+    private CompletableFuture<MountainWeatherDto> fetch(Mountain mountain) {
+        if (isCircuitOpen()) {
+            return null;
+        }
+
+        Integer mountainId = mountain.getId();
+        double lat = mountain.getMountainLatitude();
+        double lon = mountain.getMountainLongitude();
+
+        CompletableFuture<MountainWeatherDto> created = new CompletableFuture<>();
+        CompletableFuture<MountainWeatherDto> existing = inFlight.putIfAbsent(mountainId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        executor.execute(() -> {
+            try {
+                MountainWeatherDto weather = callUpstream(lat, lon);
+                cache.put(mountainId, new CachedWeather(weather, System.currentTimeMillis()));
+                consecutiveFailures.set(0);
+                inFlight.remove(mountainId, created);
+                created.complete(weather);
+            } catch (Exception e) {
+                recordFailure(mountainId, e);
+                inFlight.remove(mountainId, created);
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    private MountainWeatherDto callUpstream(double lat, double lon) {
+        OpenWeatherDto response = restClient
+                .get()
+                .uri("/data/3.0/onecall?lat={lat}&lon={lon}&exclude={exclude}&appid={appid}&units={units}",
+                        lat,
+                        lon,
+                        "current,minutely,hourly,alerts",
+                        apiKey,
+                        "metric")
+                .retrieve()
+                .body(OpenWeatherDto.class);
+
+        return response.toMountainWeatherDto();
+    }
+
+    private void recordFailure(Integer mountainId, Throwable ex) {
+        int count = consecutiveFailures.incrementAndGet();
+        log.warn("날씨 조회 실패 -> mountainId : {}, 연속 실패 : {}, 원인 : {}", mountainId, count, ex.getMessage());
+
+        if (count >= failureThreshold) {
+            circuitOpenUntil = System.currentTimeMillis() + openMillis;
+            consecutiveFailures.set(0);
+            log.warn("날씨 조회 일시 차단 -> {}ms", openMillis);
+        }
+    }
+
+    private boolean isCircuitOpen() {
+        return System.currentTimeMillis() < circuitOpenUntil;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.repository.PathEndpoints;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.tracking.service.TrackingUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 등산로 메타데이터 메모리 인덱스 (트래킹 종료 시 도착 검증에 쓰는 끝 좌표)
+ * - 좌표는 PostGIS 에서 계산해 가져오므로 route 전체(WKB)를 읽지 않음
+ * - 애플리케이션 시작 시 적재, 주기적으로 / 산 정보 변경 시 재적재
+ * - 인덱스에 없는 등산로는 단건 쿼리로 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PathMetadataIndex {
+
+    private final PathRepository pathRepository;
+
+    private volatile Map<Integer, PathMetadata> byId = Map.of();
+
+    public record PathMetadata(Integer pathId, double endLatitude, double endLongitude) {
+
+        static PathMetadata from(PathEndpoints endpoints) {
+            return new PathMetadata(endpoints.getId(), endpoints.getEndLatitude(), endpoints.getEndLongitude());
+        }
+
+        // 도착 지점까지 거리(m)
+        public double distanceToEnd(double lat, double lng) {
+            return TrackingUtils.calculateDistance(endLatitude, endLongitude, lat, lng);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @EventListener(MountainChangedEvent.class)
+    public void onMountainChanged(MountainChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${mountain.path-metadata.refresh-ms:3600000}",
+               fixedDelayString = "${mountain.path-metadata.refresh-ms:3600000}")
+    public void refresh() {
+        try {
+            List<PathEndpoints> endpoints = pathRepository.findAllEndpoints();
+
+            Map<Integer, PathMetadata> loaded = new HashMap<>(endpoints.size() * 2);
+            for (PathEndpoints endpoint : endpoints) {
+                if (endpoint.getEndLatitude() != null && endpoint.getEndLongitude() != null) {
+                    loaded.put(endpoint.getId(), PathMetadata.from(endpoint));
+                }
+            }
+
+            byId = loaded;
+            log.info("등산로 메타데이터 인덱스 적재 완료 -> count : {}", loaded.size());
+        } catch (Exception e) {
+            log.error("등산로 메타데이터 인덱스 적재 실패", e);
+        }
+    }
+
+    public Optional<PathMetadata> get(Integer pathId) {
+        PathMetadata metadata = byId.get(pathId);
+        if (metadata != null) {
+            return Optional.of(metadata);
+        }
+
+        return pathRepository.findEndpointsById(pathId)
+                             .filter(endpoint -> endpoint.getEndLatitude() != null && endpoint.getEndLongitude() != null)
+                             .map(PathMetadata::from);
+    }
+}
@@ -1,12 +1,22 @@
 package com.ssafy.ollana.mountain.web.controller;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
+import com.ssafy.ollana.mountain.exception.ImageHarvestInProgressException;
+import com.ssafy.ollana.mountain.service.MountainMapSnapshot;
 import com.ssafy.ollana.mountain.service.MountainService;
+import com.ssafy.ollana.mountain.service.MountainViewportService;
 import com.ssafy.ollana.mountain.web.dto.response.MountainDetailResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
-import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.mountain.web.dto.response.MountainViewportResponseDto;
+import com.ssafy.ollana.tracking.service.RouteDetail;
+import com.ssafy.ollana.tracking.service.RouteEncoding;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,23 +28,63 @@ import java.util.List;
 public class MountainController {
 
     private final MountainService mountainService;
+    private final MountainMapSnapshot mountainMapSnapshot;
+    private final MountainViewportService mountainViewportService;
 
+    /*
+     * 산 지도 목록
+     * - bbox(minLng,minLat,maxLng,maxLat), zoom 이 주어지면 해당 영역만 조회
+     * - 미리 직렬화된 스냅샷을 그대로 전송, If-None-Match 가 일치하면 304
+     * - gzip 을 허용하는 클라이언트에는 압축된 바이트 전송
+     */
     @GetMapping("/map")
-    public ResponseEntity<Response<List<MountainMapResponseDto>>> getMountains() {
-        List<MountainMapResponseDto> response = mountainService.getMountains();
-        return ResponseEntity.ok(Response.success(response));
+    public ResponseEntity<?> getMountains(@RequestParam(required = false) String bbox,
+                                          @RequestParam(required = false) Integer zoom,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // bbox 가 있으면 화면 영역 내 산만 (낮은 zoom 에서는 묶어서) 반환
+        if (bbox != null) {
+            MountainViewportResponseDto response = mountainViewportService.getMountainsInViewport(bbox, zoom);
+            return ResponseEntity.ok(Response.success(response));
+        }
+
+        MountainMapSnapshot.Snapshot snapshot = mountainMapSnapshot.get();
+
+        if (matchesEtag(ifNoneMatch, snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(snapshot.etag())
+                                 .cacheControl(CacheControl.noCache())
+                                 .build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                           .contentType(MediaType.APPLICATION_JSON)
+                                                           .eTag(snapshot.etag())
+                                                           .cacheControl(CacheControl.noCache())
+                                                           .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                          .body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
     }
 
     @GetMapping("/list")
     public ResponseEntity<Response<?>> getMountainList(
             @RequestParam(value = "search", required = false) String mountainName,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor
     ) {
         // 검색어 있으면 산 검색
         if (mountainName != null && !mountainName.isEmpty()) {
             List<MountainListResponseDto> response = mountainService.searchMountain(mountainName);
             return ResponseEntity.ok(Response.success(response));
+        } else if (cursor != null) {
+            // cursor 가 있으면 keyset 페이지네이션 (빈 문자열이면 첫 페이지)
+            CursorResponse<MountainListResponseDto> response = mountainService.getMountainListByCursor(cursor, size);
+            return ResponseEntity.ok(Response.success(response));
         } else {
             // 검색어 없으면 산 전체 리스트
             PageResponse<MountainListResponseDto> response = mountainService.getMountainList(page, size);
@@ -43,14 +93,35 @@ public class MountainController {
     }
 
     @GetMapping("/detail/{mountain_id}")
-    public ResponseEntity<Response<MountainDetailResponseDto>> getMountainDetail(@PathVariable("mountain_id") int mountainId) {
-        MountainDetailResponseDto response = mountainService.getMountainDetail(mountainId);
+    public ResponseEntity<Response<MountainDetailResponseDto>> getMountainDetail(@PathVariable("mountain_id") int mountainId,
+                                                                                 @RequestParam(defaultValue = "full") String detail,
+                                                                                 @RequestParam(defaultValue = "json") String encoding) {
+        MountainDetailResponseDto response = mountainService.getMountainDetail(mountainId, RouteDetail.from(detail), RouteEncoding.from(encoding));
         return ResponseEntity.ok(Response.success(response));
     }
 
+    // 로그인 사용자만 호출 가능 (SecurityConfig), 수집은 백그라운드에서 진행
     @GetMapping("/save-image")
-    public ResponseEntity<Response<Void>> saveMountainImg() {
-        mountainService.saveMountainImg();
-        return ResponseEntity.ok(Response.success());
+    public ResponseEntity<Response<Void>> saveMountainImg(@RequestParam(defaultValue = "false") boolean reset) {
+        if (!mountainService.saveMountainImg(reset)) {
+            throw new ImageHarvestInProgressException();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Response.success());
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,22 @@
+package com.ssafy.ollana.mountain.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MountainViewportResponseDto {
+    private int zoom;
+    private List<MountainMapResponseDto> mountains;   // 개별 산
+    private List<ClusterDto> clusters;                 // 낮은 zoom 에서 묶인 산
+
+    @Getter
+    @Builder
+    public static class ClusterDto {
+        private double latitude;    // 묶인 산들의 중심
+        private double longitude;
+        private int count;
+    }
+}
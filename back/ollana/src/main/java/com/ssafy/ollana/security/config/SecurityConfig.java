@@ -53,6 +53,9 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
                 .authorizeHttpRequests(authorize -> authorize
+                        // 외부 API 수집 작업은 /mountain/** 중에서도 인증 필요
+                        .requestMatchers("/mountain/save-image")
+                        .authenticated()
                         .requestMatchers(
                                 "/auth/login",
                                 "/auth/signup",
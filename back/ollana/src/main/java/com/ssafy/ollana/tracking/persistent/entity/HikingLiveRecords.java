@@ -13,6 +13,13 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(
+        name = "hiking_live_records",
+        indexes = {
+                @Index(name = "idx_live_records_history", columnList = "hiking_history_id"),
+                @Index(name = "idx_live_records_user_history", columnList = "user_id, hiking_history_id")
+        }
+)
 public class HikingLiveRecords extends BaseEntity {
 
     @Id
@@ -0,0 +1,45 @@
+package com.ssafy.ollana.tracking.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/*
+ * 등산 1회분의 실시간 기록을 HikingTrackCodec 으로 압축해 저장
+ * - HikingHistory 와 1:1 (PK 공유), HikingHistory 삭제 시 DB 에서 함께 삭제
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class HikingTrack extends BaseEntity {
+
+    @Id
+    @Column(name = "hiking_history_id")
+    private Integer id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hiking_history_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private HikingHistory hikingHistory;
+
+    private byte version;
+    private int pointCount;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] data;
+
+    public static HikingTrack of(HikingHistory hikingHistory, byte[] data, int pointCount) {
+        return HikingTrack.builder()
+                          .hikingHistory(hikingHistory)
+                          .version(data[0])
+                          .pointCount(pointCount)
+                          .data(data)
+                          .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy.ollana.tracking.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+ * 트래킹 중 업로드된 포인트의 누적 집계 (사용자 당 한 행)
+ * - 포인트 업로드와 같은 트랜잭션에서 갱신되어 롤백된 포인트는 집계에도 반영되지 않음
+ * - 종료 시 누적 포인트를 다시 읽지 않고 이 값으로 기록 요약 생성 (요청에 없는 종료 시간 / 거리 / 위치도 이 값 사용)
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "tracking_checkpoint")
+public class TrackingCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    private Integer mountainId;
+    private Integer pathId;
+
+    // 업로드된 포인트 수와 마지막 포인트 (시간 순)
+    private int pointCount;
+    private Integer lastTime;
+    private Double lastDistance;
+    private Double lastLatitude;
+    private Double lastLongitude;
+
+    // HeartRateStats 누적 상태 (HeartRateStats.toBytes)
+    @Column(columnDefinition = "bytea")
+    private byte[] heartRateState;
+
+    public static TrackingCheckpoint of(Integer userId, Integer mountainId, Integer pathId) {
+        return TrackingCheckpoint.builder()
+                                 .userId(userId)
+                                 .mountainId(mountainId)
+                                 .pathId(pathId)
+                                 .build();
+    }
+
+    // 새 트래킹 시작 시 이전 집계 초기화
+    public void reset(Integer mountainId, Integer pathId) {
+        this.mountainId = mountainId;
+        this.pathId = pathId;
+        this.pointCount = 0;
+        this.lastTime = null;
+        this.lastDistance = null;
+        this.lastLatitude = null;
+        this.lastLongitude = null;
+        this.heartRateState = null;
+    }
+
+    // 업로드된 포인트 반영 (위치는 이번 묶음에서 위치가 있는 마지막 포인트, 없으면 이전 위치 유지)
+    public void append(int count, int lastTime, Double lastDistance, Double lastLatitude, Double lastLongitude,
+                       byte[] heartRateState) {
+        this.pointCount += count;
+        this.lastTime = lastTime;
+        this.lastDistance = lastDistance;
+        if (lastLatitude != null && lastLongitude != null) {
+            this.lastLatitude = lastLatitude;
+            this.lastLongitude = lastLongitude;
+        }
+        this.heartRateState = heartRateState;
+    }
+}
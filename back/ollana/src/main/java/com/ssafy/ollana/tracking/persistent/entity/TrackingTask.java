@@ -0,0 +1,74 @@
+package com.ssafy.ollana.tracking.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import com.ssafy.ollana.tracking.persistent.entity.enums.TrackingTaskStatus;
+import com.ssafy.ollana.tracking.persistent.entity.enums.TrackingTaskType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+ * 트래킹 종료 후처리 outbox
+ * - 종료 트랜잭션에서 함께 저장되고, 처리 완료 시 삭제
+ * - 실패 시 nextAttemptAt 이후 스케줄러가 재시도
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "tracking_task", indexes = {
+        @Index(name = "idx_tracking_task_status", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_tracking_task_event_id", columnList = "event_id")
+})
+public class TrackingTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tracking_task_id")
+    private Long id;
+
+    // 같은 종료 요청에서 만들어진 작업 묶음 (TrackingFinishedEvent.eventId)
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TrackingTaskType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TrackingTaskStatus status;
+
+    // TrackingFinishedEvent JSON
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public static TrackingTask of(String eventId, TrackingTaskType type, String payload, LocalDateTime nextAttemptAt) {
+        return TrackingTask.builder()
+                           .eventId(eventId)
+                           .type(type)
+                           .status(TrackingTaskStatus.PENDING)
+                           .payload(payload)
+                           .nextAttemptAt(nextAttemptAt)
+                           .build();
+    }
+
+    public void fail(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = TrackingTaskStatus.FAILED;
+        }
+    }
+}
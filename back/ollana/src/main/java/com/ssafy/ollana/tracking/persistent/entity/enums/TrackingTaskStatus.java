@@ -0,0 +1,6 @@
+package com.ssafy.ollana.tracking.persistent.entity.enums;
+
+public enum TrackingTaskStatus {
+    PENDING,  // 처리 대기 / 재시도 대기
+    FAILED    // 최대 재시도 횟수 초과
+}
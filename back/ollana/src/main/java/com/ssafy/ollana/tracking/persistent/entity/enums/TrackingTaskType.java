@@ -0,0 +1,8 @@
+package com.ssafy.ollana.tracking.persistent.entity.enums;
+
+// 트래킹 종료 후 비동기로 처리하는 작업
+public enum TrackingTaskType {
+    USER_STATS,     // 경험치 / 누적 거리 갱신
+    BATTLE_HISTORY, // 대결 결과 저장
+    TRACK           // 업로드된 포인트로 압축 트랙 생성
+}
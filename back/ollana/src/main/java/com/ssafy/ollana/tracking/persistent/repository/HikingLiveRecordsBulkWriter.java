@@ -0,0 +1,167 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.IdentifierGenerator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * HikingLiveRecords 대량 저장
+ * - 영속성 컨텍스트를 거치지 않고 PostgreSQL COPY FROM STDIN 으로 저장
+ * - PostgreSQL 커넥션이 아닌 경우 JDBC batch insert 로 대체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class HikingLiveRecordsBulkWriter {
+
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    private static final String COPY_SQL = """
+            COPY hiking_live_records (hiking_live_records_id, user_id, mountain_id, path_id, hiking_history_id,
+                                      total_time, total_distance, latitude, longitude, heart_rate,
+                                      created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO hiking_live_records (hiking_live_records_id, user_id, mountain_id, path_id, hiking_history_id,
+                                             total_time, total_distance, latitude, longitude, heart_rate,
+                                             created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+
+    @Value("${tracking.live-records.writer:copy}")
+    private String writerMode;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int write(Integer userId, Integer mountainId, Integer pathId, Integer hikingHistoryId,
+                     List<BattleRecordsForTrackingResponseDto> records) {
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 트랜잭션에서 저장된 엔티티(HikingHistory 등)가 먼저 반영되도록 flush
+        em.flush();
+
+        long startNanos = System.nanoTime();
+        List<Integer> ids = allocateIds(records.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        int written = jdbcTemplate.execute((ConnectionCallback<Integer>) con -> {
+            if ("copy".equals(writerMode) && con.isWrapperFor(PGConnection.class)) {
+                return copy(con, ids, userId, mountainId, pathId, hikingHistoryId, records, now);
+            }
+            return batchInsert(ids, userId, mountainId, pathId, hikingHistoryId, records, now);
+        });
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("HikingLiveRecords 대량 저장 완료 -> mode : {}, rows : {}, elapsed : {}ms, rows/sec : {}",
+                writerMode, written, elapsedMillis, written * 1000L / elapsedMillis);
+        return written;
+    }
+
+    /*
+     * 엔티티와 같은 ID 생성기(Hibernate pooled optimizer)로 ID 확보
+     * - 시퀀스를 직접 읽으면 시작 값 처리 방식 차이로 persist 로 저장되는 ID 와 구간이 겹칠 수 있음
+     * - 블록 안에서는 메모리에서 증가하므로 nextval 은 allocationSize 마다 한 번
+     */
+    private List<Integer> allocateIds(int count) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory().getMappingMetamodel()
+                                     .getEntityDescriptor(HikingLiveRecords.class)
+                                     .getGenerator();
+        if (!(generator instanceof IdentifierGenerator identifierGenerator)) {
+            throw new IllegalStateException("HikingLiveRecords ID 생성기를 찾을 수 없음");
+        }
+
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Integer) identifierGenerator.generate(session, null));
+        }
+        return ids;
+    }
+
+    private int copy(Connection con, List<Integer> ids, Integer userId, Integer mountainId, Integer pathId,
+                     Integer hikingHistoryId, List<BattleRecordsForTrackingResponseDto> records,
+                     LocalDateTime now) throws SQLException {
+        String timestamp = Timestamp.valueOf(now).toString();
+        StringBuilder csv = new StringBuilder(records.size() * 96);
+
+        for (int i = 0; i < records.size(); i++) {
+            BattleRecordsForTrackingResponseDto record = records.get(i);
+            csv.append(ids.get(i)).append(',')
+               .append(userId).append(',')
+               .append(mountainId).append(',')
+               .append(pathId).append(',')
+               .append(nullable(hikingHistoryId)).append(',')
+               .append(record.getTime()).append(',')
+               .append(record.getDistance()).append(',')
+               .append(nullable(record.getLatitude())).append(',')
+               .append(nullable(record.getLongitude())).append(',')
+               .append(record.getHeartRate()).append(',')
+               .append(timestamp).append(',')
+               .append(timestamp).append('\n');
+        }
+
+        try {
+            CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+            return (int) copyManager.copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("HikingLiveRecords COPY 실패", e);
+        }
+    }
+
+    private int batchInsert(List<Integer> ids, Integer userId, Integer mountainId, Integer pathId,
+                            Integer hikingHistoryId, List<BattleRecordsForTrackingResponseDto> records,
+                            LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            BattleRecordsForTrackingResponseDto record = records.get(i);
+            args.add(new Object[]{
+                    ids.get(i), userId, mountainId, pathId, hikingHistoryId,
+                    record.getTime(), record.getDistance(), record.getLatitude(), record.getLongitude(),
+                    record.getHeartRate(), timestamp, timestamp
+            });
+        }
+
+        int written = 0;
+        for (int from = 0; from < args.size(); from += JDBC_BATCH_SIZE) {
+            List<Object[]> chunk = args.subList(from, Math.min(from + JDBC_BATCH_SIZE, args.size()));
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk);
+            written += chunk.size();
+        }
+        return written;
+    }
+
+    // CSV 포맷에서 따옴표 없는 빈 값은 NULL
+    private String nullable(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -1,11 +1,17 @@
 package com.ssafy.ollana.tracking.persistent.repository;
 
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
 import com.ssafy.ollana.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface HikingLiveRecordsRepository extends JpaRepository<HikingLiveRecords, Integer> {
@@ -15,4 +21,35 @@ public interface HikingLiveRecordsRepository extends JpaRepository<HikingLiveRec
     List<HikingLiveRecords> findByUserAndMountainAndPath(User user, Mountain mountain, Path path);
     void deleteByUserAndMountainAndPath(User user, Mountain mountain, Path path);
     List<HikingLiveRecords> findByHikingHistoryId(Integer hikingHistoryId);
+
+    List<HikingLiveRecords> findByHikingHistoryIdOrderByTotalTimeAsc(Integer hikingHistoryId);
+
+    // 트래킹 중 업로드된 포인트 조회 (hikingHistory 미연결 상태)
+    List<HikingLiveRecords> findByUserIdAndPathIdAndHikingHistoryIsNullOrderByTotalTimeAsc(Integer userId, Integer pathId);
+
+    // 트래킹 종료 시 누적된 포인트를 등산 기록에 연결
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HikingLiveRecords r SET r.hikingHistory = :history " +
+           "WHERE r.user.id = :userId AND r.path.id = :pathId AND r.hikingHistory IS NULL")
+    int attachBufferedRecords(@Param("userId") Integer userId,
+                              @Param("pathId") Integer pathId,
+                              @Param("history") HikingHistory history);
+
+    // 저장하지 않거나 중단된 트래킹의 누적 포인트 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM HikingLiveRecords r WHERE r.user.id = :userId AND r.hikingHistory IS NULL")
+    int deleteBufferedRecords(@Param("userId") Integer userId);
+
+    // 오래된 누적 포인트가 남아 있는 사용자 (중단 후 재개하지 않은 트래킹 정리용, afterUserId 다음부터 id 순)
+    @Query("SELECT DISTINCT r.user.id FROM HikingLiveRecords r " +
+           "WHERE r.hikingHistory IS NULL AND r.createdAt < :cutoff AND r.user.id > :afterUserId " +
+           "ORDER BY r.user.id")
+    List<Integer> findUserIdsWithBufferedRecordsBefore(@Param("cutoff") LocalDateTime cutoff,
+                                                       @Param("afterUserId") Integer afterUserId,
+                                                       Pageable pageable);
+
+    // 압축 트랙으로 옮긴 등산 기록의 행 단위 기록 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM HikingLiveRecords r WHERE r.hikingHistory.id = :hikingHistoryId")
+    int deleteByHikingHistoryIdInBulk(@Param("hikingHistoryId") Integer hikingHistoryId);
 }
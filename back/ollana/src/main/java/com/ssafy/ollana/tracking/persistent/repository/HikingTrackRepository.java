@@ -0,0 +1,19 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrack;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface HikingTrackRepository extends JpaRepository<HikingTrack, Integer> {
+
+    // 압축 트랙이 아직 없는 등산 기록 id 조회 (마이그레이션용, afterId 이후)
+    @Query("SELECT h.id FROM HikingHistory h " +
+           "WHERE h.id > :afterId " +
+           "AND NOT EXISTS (SELECT t.id FROM HikingTrack t WHERE t.id = h.id) " +
+           "ORDER BY h.id ASC")
+    List<Integer> findHistoryIdsWithoutTrack(@Param("afterId") Integer afterId, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.TrackingCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TrackingCheckpointRepository extends JpaRepository<TrackingCheckpoint, Integer> {
+
+    // 같은 사용자의 업로드가 겹쳐도 집계가 순서대로 갱신되도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TrackingCheckpoint c WHERE c.userId = :userId")
+    Optional<TrackingCheckpoint> findForUpdate(@Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TrackingCheckpoint c WHERE c.userId = :userId")
+    int deleteByUserId(@Param("userId") Integer userId);
+}
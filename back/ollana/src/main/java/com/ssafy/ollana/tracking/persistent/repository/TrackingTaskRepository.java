@@ -0,0 +1,41 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.TrackingTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TrackingTaskRepository extends JpaRepository<TrackingTask, Long> {
+
+    @Query("SELECT t.id FROM TrackingTask t WHERE t.eventId = :eventId ORDER BY t.id ASC")
+    List<Long> findIdsByEventId(@Param("eventId") String eventId);
+
+    // 재시도 시각이 지난 작업 id 조회
+    @Query("SELECT t.id FROM TrackingTask t " +
+           "WHERE t.status = com.ssafy.ollana.tracking.persistent.entity.enums.TrackingTaskStatus.PENDING " +
+           "AND t.nextAttemptAt <= :now ORDER BY t.id ASC")
+    List<Long> findDueTaskIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 재시도 작업 선점 (다른 인스턴스 / 스레드가 먼저 선점했거나 실행 중이면 0)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE tracking_task SET next_attempt_at = :leaseUntil " +
+                   "WHERE tracking_task_id = (" +
+                   "    SELECT tracking_task_id FROM tracking_task " +
+                   "    WHERE tracking_task_id = :id AND status = 'PENDING' AND next_attempt_at <= :now " +
+                   "    FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 실행할 작업 잠금 (실행 트랜잭션이 끝날 때까지 유지, 다른 스레드 / 인스턴스가 실행 중이면 empty)
+    @Query(value = "SELECT * FROM tracking_task " +
+                   "WHERE tracking_task_id = :id AND status = 'PENDING' " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<TrackingTask> lockPending(@Param("id") Long id);
+}
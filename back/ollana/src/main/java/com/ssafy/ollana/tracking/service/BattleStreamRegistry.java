@@ -0,0 +1,300 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import com.ssafy.ollana.tracking.service.exception.BattleStreamFullException;
+import com.ssafy.ollana.tracking.web.dto.response.BattleGhostEventDto;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 대결 고스트 실시간 전송 (SSE) 세션 관리
+ * - 사용자 당 하나의 세션, 세션마다 크기가 제한된 이벤트 큐 (가득 차면 오래된 이벤트부터 버림)
+ * - 전송은 별도 dispatcher 스레드에서 세션 단위로 한 번에 하나씩 수행해
+ *   느린 클라이언트가 포인트 업로드 요청이나 다른 세션을 막지 않도록 함
+ * - 고스트 위치는 상대 기록을 시간 기준 선형 보간, 시간 차는 같은 거리에 도달한 시각 비교
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BattleStreamRegistry {
+
+    @Value("${tracking.battle-stream.max-sessions:20000}")
+    private int maxSessions;
+
+    @Value("${tracking.battle-stream.queue-size:16}")
+    private int queueSize;
+
+    @Value("${tracking.battle-stream.timeout-ms:14400000}")
+    private long timeoutMillis;
+
+    @Qualifier(AsyncConfig.BATTLE_STREAM_EXECUTOR)
+    private final ThreadPoolTaskExecutor dispatcher;
+
+    private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+
+    // 동시 세션 수 제한 (사용자 당 하나, 같은 사용자 재연결은 기존 허가 유지)
+    private Semaphore permits;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private final class Session {
+        private final Integer userId;
+        private final SseEmitter emitter;
+        private final List<BattleRecordsForTrackingResponseDto> ghost;
+        private final ArrayDeque<BattleGhostEventDto> queue = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Session(Integer userId, SseEmitter emitter, List<BattleRecordsForTrackingResponseDto> ghost) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.ghost = ghost;
+        }
+
+        private void offer(BattleGhostEventDto event) {
+            synchronized (queue) {
+                if (queue.size() >= queueSize) {
+                    queue.pollFirst();
+                    dropped.increment();
+                }
+                queue.addLast(event);
+            }
+        }
+
+        private BattleGhostEventDto poll() {
+            synchronized (queue) {
+                return queue.pollFirst();
+            }
+        }
+
+        private boolean isEmpty() {
+            synchronized (queue) {
+                return queue.isEmpty();
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxSessions);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessions.values().forEach(session -> session.emitter.complete());
+    }
+
+    /*
+     * 세션 등록 (같은 사용자의 이전 세션은 종료)
+     */
+    public SseEmitter open(Integer userId, List<BattleRecordsForTrackingResponseDto> ghost) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Session session = new Session(userId, emitter, ghost);
+        Session[] replaced = new Session[1];
+
+        // 허가 확인과 등록을 같은 키 잠금 안에서 처리 (가득 차면 예외로 등록하지 않음)
+        sessions.compute(userId, (id, previous) -> {
+            if (previous == null && !permits.tryAcquire()) {
+                throw new BattleStreamFullException();
+            }
+            replaced[0] = previous;
+            return session;
+        });
+
+        emitter.onCompletion(() -> remove(session));
+        emitter.onTimeout(() -> remove(session));
+        emitter.onError(e -> remove(session));
+
+        if (replaced[0] != null) {
+            replaced[0].closed = true;
+            replaced[0].emitter.complete();
+        }
+
+        log.debug("대결 스트림 연결 -> userId : {}, {}", userId, stats());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPointsAppended(TrackingPointsAppendedEvent event) {
+        onUserPoint(event.userId(), event.lastPoint());
+    }
+
+    /*
+     * 사용자 포인트 수신 시 고스트 위치 계산 후 전송 예약
+     */
+    private void onUserPoint(Integer userId, BattleRecordsForTrackingResponseDto point) {
+        Session session = sessions.get(userId);
+        if (session == null || session.closed || session.ghost.isEmpty()) {
+            return;
+        }
+
+        session.offer(toEvent(session.ghost, point));
+        schedule(session);
+    }
+
+    public void close(Integer userId) {
+        Session session = sessions.remove(userId);
+        if (session != null) {
+            permits.release();
+            session.closed = true;
+            session.emitter.complete();
+            log.debug("대결 스트림 종료 -> userId : {}, {}", userId, stats());
+        }
+    }
+
+    private String stats() {
+        return String.format("sessions=%d, sent=%d, dropped=%d", sessions.size(), sent.sum(), dropped.sum());
+    }
+
+    private void schedule(Session session) {
+        if (!session.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            dispatcher.execute(() -> drain(session));
+        } catch (RejectedExecutionException e) {
+            session.scheduled.set(false);
+        }
+    }
+
+    private void drain(Session session) {
+        try {
+            BattleGhostEventDto event;
+            while (!session.closed && (event = session.poll()) != null) {
+                session.emitter.send(SseEmitter.event().name("ghost").data(event));
+                sent.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("대결 스트림 전송 실패 -> userId : {}, {}", session.userId, e.getMessage());
+            remove(session);
+            session.emitter.completeWithError(e);
+            return;
+        } finally {
+            session.scheduled.set(false);
+        }
+
+        // drain 종료와 새 이벤트 도착이 겹친 경우 다시 예약
+        if (!session.closed && !session.isEmpty()) {
+            schedule(session);
+        }
+    }
+
+    private void remove(Session session) {
+        session.closed = true;
+        if (sessions.remove(session.userId, session)) {
+            permits.release();
+        }
+    }
+
+    private BattleGhostEventDto toEvent(List<BattleRecordsForTrackingResponseDto> ghost, BattleRecordsForTrackingResponseDto point) {
+        int time = point.getTime();
+        BattleRecordsForTrackingResponseDto last = ghost.get(ghost.size() - 1);
+
+        // 사용자 시간에서의 고스트 위치 (시간 기준 보간)
+        int i = upperBoundByTime(ghost, time);
+        double ghostDistance;
+        Double ghostLat;
+        Double ghostLng;
+        if (i == 0) {
+            BattleRecordsForTrackingResponseDto first = ghost.get(0);
+            ghostDistance = first.getDistance();
+            ghostLat = first.getLatitude();
+            ghostLng = first.getLongitude();
+        } else if (i >= ghost.size()) {
+            ghostDistance = last.getDistance();
+            ghostLat = last.getLatitude();
+            ghostLng = last.getLongitude();
+        } else {
+            BattleRecordsForTrackingResponseDto a = ghost.get(i - 1);
+            BattleRecordsForTrackingResponseDto b = ghost.get(i);
+            double ratio = b.getTime() == a.getTime() ? 0 : (double) (time - a.getTime()) / (b.getTime() - a.getTime());
+            ghostDistance = a.getDistance() + ratio * (b.getDistance() - a.getDistance());
+            ghostLat = interpolate(a.getLatitude(), b.getLatitude(), ratio);
+            ghostLng = interpolate(a.getLongitude(), b.getLongitude(), ratio);
+        }
+
+        // 사용자가 지금 거리에 도달한 시각 - 고스트가 같은 거리에 도달한 시각 (양수면 사용자가 느림)
+        Integer timeGap = null;
+        if (point.getDistance() <= last.getDistance()) {
+            timeGap = time - ghostTimeAtDistance(ghost, point.getDistance());
+        }
+
+        return BattleGhostEventDto.builder()
+                .time(time)
+                .userDistance(point.getDistance())
+                .ghostDistance(ghostDistance)
+                .ghostLatitude(ghostLat)
+                .ghostLongitude(ghostLng)
+                .distanceGap(point.getDistance() - ghostDistance)
+                .timeGap(timeGap)
+                .ghostFinished(time >= last.getTime())
+                .build();
+    }
+
+    // time 보다 기록 시간이 큰 첫 인덱스
+    private static int upperBoundByTime(List<BattleRecordsForTrackingResponseDto> ghost, int time) {
+        int low = 0;
+        int high = ghost.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ghost.get(mid).getTime() <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 누적 거리는 단조 증가이므로 거리 기준 이진 탐색 후 보간
+    private static int ghostTimeAtDistance(List<BattleRecordsForTrackingResponseDto> ghost, double distance) {
+        int low = 0;
+        int high = ghost.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ghost.get(mid).getDistance() < distance) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (low == 0) {
+            return ghost.get(0).getTime();
+        }
+        BattleRecordsForTrackingResponseDto a = ghost.get(low - 1);
+        BattleRecordsForTrackingResponseDto b = ghost.get(low);
+        double span = b.getDistance() - a.getDistance();
+        double ratio = span <= 0 ? 0 : (distance - a.getDistance()) / span;
+        return (int) Math.round(a.getTime() + ratio * (b.getTime() - a.getTime()));
+    }
+
+    private static Double interpolate(Double a, Double b, double ratio) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return a + ratio * (b - a);
+    }
+}
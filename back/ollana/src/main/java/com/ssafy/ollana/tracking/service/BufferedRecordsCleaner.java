@@ -0,0 +1,71 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
+import com.ssafy.ollana.tracking.persistent.repository.TrackingCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 중단 후 이어하지 않은 트래킹의 누적 포인트 / 집계 정리
+ * - 기록에 연결되지 않은 포인트가 expire-hours 이상 남아 있고 세션도 만료된 사용자만 삭제
+ * - 진행 중인 사용자는 남아 있으므로 user id 기준으로 이어서 조회 (첫 페이지만 보면 뒤쪽 사용자가 정리되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BufferedRecordsCleaner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
+    private final TrackingCheckpointRepository trackingCheckpointRepository;
+    private final TrackingSessionStore trackingSessionStore;
+    private final RouteProgressEngine routeProgressEngine;
+
+    @Value("${tracking.checkpoint.expire-hours:24}")
+    private long expireHours;
+
+    @Scheduled(initialDelayString = "${tracking.checkpoint.cleanup-ms:3600000}",
+               fixedDelayString = "${tracking.checkpoint.cleanup-ms:3600000}")
+    @Transactional
+    public void expireAbandonedTracking() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(expireHours);
+
+        int users = 0;
+        int deleted = 0;
+        int afterUserId = 0;
+        List<Integer> userIds;
+        do {
+            userIds = hikingLiveRecordsRepository.findUserIdsWithBufferedRecordsBefore(
+                    cutoff, afterUserId, PageRequest.of(0, BATCH_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<Integer, TrackingSessionStore.TrackingSession> active = trackingSessionStore.findAll(userIds);
+            for (Integer userId : userIds) {
+                if (active.containsKey(userId)) {
+                    continue;
+                }
+                deleted += hikingLiveRecordsRepository.deleteBufferedRecords(userId);
+                trackingCheckpointRepository.deleteByUserId(userId);
+                routeProgressEngine.reset(userId);
+                users++;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == BATCH_SIZE);
+
+        if (users > 0) {
+            log.info("중단된 트래킹 포인트 정리 -> users : {}, records : {}", users, deleted);
+        }
+    }
+}
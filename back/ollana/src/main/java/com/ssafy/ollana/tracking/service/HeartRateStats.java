@@ -0,0 +1,200 @@
+package com.ssafy.ollana.tracking.service;
+
+import java.nio.ByteBuffer;
+
+/*
+ * 심박 통계 누적 (포인트를 한 번씩만 보며 박싱 없이 계산)
+ * - 최소 / 최대 / 평균, bpm 히스토그램 기반 백분위
+ * - 구간(zone) 별 시간 : 직전 포인트 이후 경과 시간을 직전 심박의 구간에 더함 (기록 공백은 MAX_GAP_SECONDS 까지만)
+ * - drift : 시간에 따른 심박 변화량 (최소제곱 기울기, bpm/시간)
+ * - 0 이하 값은 심박 미측정으로 보고 제외
+ * - 트래킹 중 업로드마다 이어서 누적할 수 있도록 상태를 바이트로 저장 / 복원 (toBytes / fromBytes)
+ */
+public class HeartRateStats {
+
+    public static final int ZONE_COUNT = 5;
+
+    public static final byte STATE_VERSION = 1;
+
+    private static final int MAX_BPM = 250;
+    private static final int MAX_GAP_SECONDS = 30;
+    private static final int ESTIMATED_MAX_HEART_RATE = 190;
+    // 최대 심박 대비 50 / 60 / 70 / 80 / 90% 이상
+    private static final int[] ZONE_LOWER_BOUNDS = {
+            ESTIMATED_MAX_HEART_RATE * 50 / 100,
+            ESTIMATED_MAX_HEART_RATE * 60 / 100,
+            ESTIMATED_MAX_HEART_RATE * 70 / 100,
+            ESTIMATED_MAX_HEART_RATE * 80 / 100,
+            ESTIMATED_MAX_HEART_RATE * 90 / 100
+    };
+
+    private final int[] histogram = new int[MAX_BPM + 1];
+    private final int[] zoneSeconds = new int[ZONE_COUNT];
+
+    private int count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max;
+
+    private int previousTime = -1;
+    private int previousZone = -1;
+
+    // 최소제곱 기울기 계산용 (시간 단위 : 시)
+    private double sumT;
+    private double sumTT;
+    private double sumTH;
+
+    /*
+     * 누적 상태 복원 (null / 빈 값이면 새 통계)
+     */
+    public static HeartRateStats fromBytes(byte[] state) {
+        HeartRateStats stats = new HeartRateStats();
+        if (state == null || state.length == 0) {
+            return stats;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        byte version = buffer.get();
+        if (version != STATE_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 심박 통계 버전 : " + version);
+        }
+
+        stats.count = buffer.getInt();
+        stats.sum = buffer.getLong();
+        stats.min = buffer.getInt();
+        stats.max = buffer.getInt();
+        stats.previousTime = buffer.getInt();
+        stats.previousZone = buffer.getInt();
+        stats.sumT = buffer.getDouble();
+        stats.sumTT = buffer.getDouble();
+        stats.sumTH = buffer.getDouble();
+        for (int zone = 0; zone < ZONE_COUNT; zone++) {
+            stats.zoneSeconds[zone] = buffer.getInt();
+        }
+
+        // 히스토그램은 값이 있는 bpm 만 (bpm, 개수) 쌍으로 저장
+        int bins = buffer.getShort();
+        for (int i = 0; i < bins; i++) {
+            int bpm = buffer.getShort();
+            stats.histogram[bpm] = buffer.getInt();
+        }
+        return stats;
+    }
+
+    public byte[] toBytes() {
+        int bins = 0;
+        for (int frequency : histogram) {
+            if (frequency > 0) {
+                bins++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES * 5 + Long.BYTES + Double.BYTES * 3
+                + Integer.BYTES * ZONE_COUNT + Short.BYTES + bins * (Short.BYTES + Integer.BYTES));
+        buffer.put(STATE_VERSION)
+              .putInt(count)
+              .putLong(sum)
+              .putInt(min)
+              .putInt(max)
+              .putInt(previousTime)
+              .putInt(previousZone)
+              .putDouble(sumT)
+              .putDouble(sumTT)
+              .putDouble(sumTH);
+        for (int seconds : zoneSeconds) {
+            buffer.putInt(seconds);
+        }
+
+        buffer.putShort((short) bins);
+        for (int bpm = 0; bpm <= MAX_BPM; bpm++) {
+            if (histogram[bpm] > 0) {
+                buffer.putShort((short) bpm).putInt(histogram[bpm]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public void add(int time, int heartRate) {
+        if (heartRate <= 0) {
+            return;
+        }
+
+        int bpm = Math.min(heartRate, MAX_BPM);
+        histogram[bpm]++;
+        count++;
+        sum += bpm;
+        min = Math.min(min, bpm);
+        max = Math.max(max, bpm);
+
+        if (previousZone >= 0 && time > previousTime) {
+            zoneSeconds[previousZone] += Math.min(time - previousTime, MAX_GAP_SECONDS);
+        }
+        previousTime = time;
+        previousZone = zoneOf(bpm);
+
+        double t = time / 3600.0;
+        sumT += t;
+        sumTT += t * t;
+        sumTH += t * bpm;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count > 0 ? (double) sum / count : 0;
+    }
+
+    // 백분위 (0 ~ 100), 기록이 없으면 0
+    public int percentile(int p) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * p / 100.0));
+        long seen = 0;
+        for (int bpm = 0; bpm <= MAX_BPM; bpm++) {
+            seen += histogram[bpm];
+            if (seen >= rank) {
+                return bpm;
+            }
+        }
+        return max;
+    }
+
+    // zone : 1 ~ 5, 50% 미만 구간은 포함하지 않음
+    public int getZoneSeconds(int zone) {
+        return zoneSeconds[zone - 1];
+    }
+
+    // 시간당 심박 변화량 (포인트가 부족하거나 시간이 모두 같으면 0)
+    public double getDrift() {
+        if (count < 2) {
+            return 0;
+        }
+
+        double denominator = count * sumTT - sumT * sumT;
+        if (denominator <= 0) {
+            return 0;
+        }
+        return (count * sumTH - sumT * sum) / denominator;
+    }
+
+    private static int zoneOf(int bpm) {
+        for (int zone = ZONE_COUNT - 1; zone >= 0; zone--) {
+            if (bpm >= ZONE_LOWER_BOUNDS[zone]) {
+                return zone;
+            }
+        }
+        return -1;
+    }
+}
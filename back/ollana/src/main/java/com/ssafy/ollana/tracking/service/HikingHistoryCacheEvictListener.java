@@ -0,0 +1,34 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import jakarta.persistence.PreRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 등산 기록 삭제 시(Footprint / User cascade 포함) 대결 상대 기록 캐시 무효화
+ * - 커밋 전 다른 요청이 캐시를 다시 채울 수 있어 커밋 후 한 번 더 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class HikingHistoryCacheEvictListener {
+
+    private final OpponentTrackCache opponentTrackCache;
+
+    @PreRemove
+    public void onRemove(HikingHistory hikingHistory) {
+        Integer hikingHistoryId = hikingHistory.getId();
+        opponentTrackCache.evict(hikingHistoryId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    opponentTrackCache.evict(hikingHistoryId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 등산 1회분의 실시간 기록을 하나의 바이너리로 인코딩/디코딩
+ *
+ * [포맷 v1]
+ * version(1 byte) | count(varint)
+ * | time 컬럼       : 이전 값과의 차이 (zigzag varint)
+ * | distance 컬럼   : cm 단위 정수로 변환 후 차이 (zigzag varint)
+ * | 좌표 존재 비트맵 : ceil(count / 8) bytes
+ * | latitude 컬럼   : 1e-6 도 단위 정수로 변환 후 차이 (좌표가 있는 행만, zigzag varint)
+ * | longitude 컬럼  : latitude 와 동일
+ * | heartRate 컬럼  : 이전 값과의 차이 (zigzag varint)
+ */
+public final class HikingTrackCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final double DISTANCE_SCALE = 100.0;    // m -> cm
+    private static final double COORDINATE_SCALE = 1e6;    // 약 0.1m 정밀도
+
+    private HikingTrackCodec() {
+    }
+
+    public static byte[] encode(List<BattleRecordsForTrackingResponseDto> records) {
+        int count = records.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + count * 8);
+        out.write(VERSION);
+        writeVarint(out, count);
+
+        long prev = 0;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            writeSigned(out, record.getTime() - prev);
+            prev = record.getTime();
+        }
+
+        prev = 0;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            long value = Math.round(record.getDistance() * DISTANCE_SCALE);
+            writeSigned(out, value - prev);
+            prev = value;
+        }
+
+        byte[] presence = new byte[(count + 7) / 8];
+        for (int i = 0; i < count; i++) {
+            if (hasCoordinate(records.get(i))) {
+                presence[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(presence, 0, presence.length);
+
+        prev = 0;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            if (hasCoordinate(record)) {
+                long value = Math.round(record.getLatitude() * COORDINATE_SCALE);
+                writeSigned(out, value - prev);
+                prev = value;
+            }
+        }
+
+        prev = 0;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            if (hasCoordinate(record)) {
+                long value = Math.round(record.getLongitude() * COORDINATE_SCALE);
+                writeSigned(out, value - prev);
+                prev = value;
+            }
+        }
+
+        prev = 0;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            writeSigned(out, record.getHeartRate() - prev);
+            prev = record.getHeartRate();
+        }
+
+        return out.toByteArray();
+    }
+
+    public static List<BattleRecordsForTrackingResponseDto> decode(byte[] data) {
+        Reader in = new Reader(data);
+        byte version = (byte) in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 트랙 포맷 버전입니다: " + version);
+        }
+
+        int count = (int) in.readVarint();
+        int[] times = new int[count];
+        long[] distances = new long[count];
+        long[] latitudes = new long[count];
+        long[] longitudes = new long[count];
+        int[] heartRates = new int[count];
+
+        long prev = 0;
+        for (int i = 0; i < count; i++) {
+            prev += in.readSigned();
+            times[i] = (int) prev;
+        }
+
+        prev = 0;
+        for (int i = 0; i < count; i++) {
+            prev += in.readSigned();
+            distances[i] = prev;
+        }
+
+        boolean[] present = new boolean[count];
+        for (int i = 0; i < count; i += 8) {
+            int bits = in.readByte();
+            for (int j = i; j < Math.min(i + 8, count); j++) {
+                present[j] = (bits & (1 << (j & 7))) != 0;
+            }
+        }
+
+        prev = 0;
+        for (int i = 0; i < count; i++) {
+            if (present[i]) {
+                prev += in.readSigned();
+                latitudes[i] = prev;
+            }
+        }
+
+        prev = 0;
+        for (int i = 0; i < count; i++) {
+            if (present[i]) {
+                prev += in.readSigned();
+                longitudes[i] = prev;
+            }
+        }
+
+        prev = 0;
+        for (int i = 0; i < count; i++) {
+            prev += in.readSigned();
+            heartRates[i] = (int) prev;
+        }
+
+        List<BattleRecordsForTrackingResponseDto> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(BattleRecordsForTrackingResponseDto.builder()
+                                                           .time(times[i])
+                                                           .distance(distances[i] / DISTANCE_SCALE)
+                                                           .heartRate(heartRates[i])
+                                                           .latitude(present[i] ? latitudes[i] / COORDINATE_SCALE : null)
+                                                           .longitude(present[i] ? longitudes[i] / COORDINATE_SCALE : null)
+                                                           .build());
+        }
+        return records;
+    }
+
+    private static boolean hasCoordinate(BattleRecordsForTrackingResponseDto record) {
+        return record.getLatitude() != null && record.getLongitude() != null;
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("트랙 데이터가 손상되었습니다.");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarint() {
+            long result = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+
+        private long readSigned() {
+            long raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+    }
+}
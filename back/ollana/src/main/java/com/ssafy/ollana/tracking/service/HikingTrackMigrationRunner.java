@@ -0,0 +1,70 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * 행 단위 기록 -> 압축 트랙 일회성 이관 작업
+ * - tracking.track-migration.enabled=true 로 기동한 경우에만 시작 후 백그라운드 작업 스레드 풀에서 실행
+ * - 등산 기록 id 순으로 batch-size(최대 500) 씩 조회, 기록 단위로 커밋하고 실패한 기록은 로그만 남기고 계속 진행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HikingTrackMigrationRunner {
+
+    private final HikingTrackMigrationService hikingTrackMigrationService;
+
+    @Qualifier(AsyncConfig.BACKGROUND_JOB_EXECUTOR)
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    @Value("${tracking.track-migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${tracking.track-migration.batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+
+        backgroundJobExecutor.execute(this::migrateAll);
+    }
+
+    private void migrateAll() {
+        log.info("압축 트랙 이관 시작");
+
+        int migrated = 0;
+        int failed = 0;
+        Integer afterId = 0;
+        List<Integer> historyIds;
+        while (!(historyIds = hikingTrackMigrationService.findHistoryIdsWithoutTrack(afterId, batchSize)).isEmpty()) {
+            for (Integer historyId : historyIds) {
+                try {
+                    if (hikingTrackMigrationService.migrate(historyId)) {
+                        migrated++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("압축 트랙 이관 실패 -> historyId : {}, {}", historyId, e.getMessage());
+                }
+            }
+
+            afterId = historyIds.get(historyIds.size() - 1);
+            log.info("압축 트랙 이관 중 -> lastHistoryId : {}, migrated : {}, failed : {}", afterId, migrated, failed);
+        }
+
+        log.info("압축 트랙 이관 완료 -> migrated : {}, failed : {}", migrated, failed);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrack;
+import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
+import com.ssafy.ollana.tracking.persistent.repository.HikingTrackRepository;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HikingTrackMigrationService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private final HikingHistoryRepository hikingHistoryRepository;
+    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
+    private final HikingTrackRepository hikingTrackRepository;
+
+    @Value("${tracking.live-records.keep-rows:true}")
+    private boolean keepLiveRecordRows;
+
+    // 압축 트랙이 없는 등산 기록 id (afterId 이후, 최대 MAX_BATCH_SIZE 개)
+    @Transactional(readOnly = true)
+    public List<Integer> findHistoryIdsWithoutTrack(Integer afterId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_BATCH_SIZE));
+        return hikingTrackRepository.findHistoryIdsWithoutTrack(afterId, PageRequest.of(0, limit));
+    }
+
+    /*
+     * 등산 기록 1건의 행 단위 기록(HikingLiveRecords)을 압축 트랙으로 이관
+     * - 기록 단위로 커밋, 이미 이관된 기록은 건너뜀 (false)
+     */
+    @Transactional
+    public boolean migrate(Integer historyId) {
+        if (hikingTrackRepository.existsById(historyId)) {
+            return false;
+        }
+
+        List<BattleRecordsForTrackingResponseDto> records = hikingLiveRecordsRepository
+                .findByHikingHistoryIdOrderByTotalTimeAsc(historyId)
+                .stream()
+                .map(BattleRecordsForTrackingResponseDto::from)
+                .toList();
+
+        byte[] data = HikingTrackCodec.encode(records);
+        hikingTrackRepository.save(HikingTrack.of(hikingHistoryRepository.getReferenceById(historyId), data, records.size()));
+
+        if (!keepLiveRecordRows) {
+            hikingLiveRecordsRepository.deleteByHikingHistoryIdInBulk(historyId);
+        }
+        return true;
+    }
+}
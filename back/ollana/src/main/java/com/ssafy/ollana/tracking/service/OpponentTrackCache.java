@@ -0,0 +1,137 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * 대결 상대 기록(고스트 트랙) read-through 캐시
+ * - 등산 기록은 저장 후 변경되지 않으므로 hikingHistoryId 기준으로 캐싱
+ * - 1차: 로컬 LRU, 2차(선택): Redis (HikingTrackCodec 바이너리를 Base64 로 저장)
+ * - 등산 기록 삭제 시 HikingHistoryCacheEvictListener 에서 무효화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpponentTrackCache {
+
+    private static final String REDIS_KEY_PREFIX = "opponent-track:";
+    private static final Duration REDIS_TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${tracking.opponent-cache.max-size:500}")
+    private int maxSize;
+
+    @Value("${tracking.opponent-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final Map<Integer, List<BattleRecordsForTrackingResponseDto>> local =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<BattleRecordsForTrackingResponseDto>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+
+    public List<BattleRecordsForTrackingResponseDto> get(Integer hikingHistoryId,
+                                                         Supplier<List<BattleRecordsForTrackingResponseDto>> loader) {
+        List<BattleRecordsForTrackingResponseDto> records;
+        synchronized (local) {
+            records = local.get(hikingHistoryId);
+        }
+        if (records != null) {
+            localHits.increment();
+            return records;
+        }
+
+        if (redisEnabled) {
+            records = getFromRedis(hikingHistoryId);
+            if (records != null) {
+                redisHits.increment();
+                putLocal(hikingHistoryId, records);
+                return records;
+            }
+        }
+
+        misses.increment();
+        records = Collections.unmodifiableList(loader.get());
+        putLocal(hikingHistoryId, records);
+        if (redisEnabled) {
+            putRedis(hikingHistoryId, records);
+        }
+
+        log.debug("대결 상대 기록 캐시 miss -> hikingHistoryId : {}, {}", hikingHistoryId, stats());
+        return records;
+    }
+
+    public void evict(Integer hikingHistoryId) {
+        synchronized (local) {
+            local.remove(hikingHistoryId);
+        }
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(REDIS_KEY_PREFIX + hikingHistoryId);
+            } catch (Exception e) {
+                log.warn("대결 상대 기록 캐시 Redis 삭제 실패 -> hikingHistoryId : {}", hikingHistoryId, e);
+            }
+        }
+    }
+
+    // 캐시 miss 로그용 누적 집계
+    private String stats() {
+        return String.format("localHits=%d, redisHits=%d, misses=%d, size=%d",
+                localHits.sum(), redisHits.sum(), misses.sum(), localSize());
+    }
+
+    private int localSize() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    private void putLocal(Integer hikingHistoryId, List<BattleRecordsForTrackingResponseDto> records) {
+        synchronized (local) {
+            local.put(hikingHistoryId, records);
+        }
+    }
+
+    // Redis 장애 시에도 DB 조회로 대체되도록 예외는 로그만 남김
+    private List<BattleRecordsForTrackingResponseDto> getFromRedis(Integer hikingHistoryId) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + hikingHistoryId);
+            if (value == null) {
+                return null;
+            }
+            return Collections.unmodifiableList(HikingTrackCodec.decode(Base64.getDecoder().decode(value)));
+        } catch (Exception e) {
+            log.warn("대결 상대 기록 캐시 Redis 조회 실패 -> hikingHistoryId : {}", hikingHistoryId, e);
+            return null;
+        }
+    }
+
+    private void putRedis(Integer hikingHistoryId, List<BattleRecordsForTrackingResponseDto> records) {
+        try {
+            String value = Base64.getEncoder().encodeToString(HikingTrackCodec.encode(records));
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + hikingHistoryId, value, REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("대결 상대 기록 캐시 Redis 저장 실패 -> hikingHistoryId : {}", hikingHistoryId, e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathRouteView;
+import com.ssafy.ollana.mountain.persistent.repository.PathSimplifiedRouteRepository;
+import com.ssafy.ollana.tracking.web.dto.response.PathForTrackingResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * 상세도(RouteDetail)별 등산로 좌표 제공
+ * - LOW / MID 는 기동 시 DB 에서 계산해 저장한 단순화 경로(path_simplified_route)만 읽음 (원본 route 는 읽지 않음)
+ * - 기동 이후 추가되어 아직 계산되지 않은 등산로만 원본을 읽어 단순화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PathRouteService {
+
+    private final PathRepository pathRepository;
+    private final PathSimplifiedRouteRepository pathSimplifiedRouteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int count = pathSimplifiedRouteRepository.refreshAll(
+                    RouteDetail.LOW.getTolerance(), RouteDetail.MID.getTolerance());
+            log.info("등산로 단순화 경로 갱신 완료 -> paths : {}", count);
+        } catch (Exception e) {
+            log.error("등산로 단순화 경로 갱신 실패", e);
+        }
+    }
+
+    // 원본 경로 응답 (트래킹 시작 등 등산로 하나를 전체 좌표로 응답하는 경우)
+    public PathForTrackingResponseDto toResponse(Path path, RouteEncoding encoding) {
+        return encoding == RouteEncoding.COMPACT
+                ? PathForTrackingResponseDto.encoded(path, path.getRoute())
+                : PathForTrackingResponseDto.from(path, path.getRoute());
+    }
+
+    public List<PathForTrackingResponseDto> getPaths(Integer mountainId, RouteDetail detail, RouteEncoding encoding) {
+        return getPathsByMountain(List.of(mountainId), detail, encoding).getOrDefault(mountainId, List.of());
+    }
+
+    // 여러 산의 등산로를 한 번에 조회 후 산 별로 묶음
+    public Map<Integer, List<PathForTrackingResponseDto>> getPathsByMountain(Collection<Integer> mountainIds,
+                                                                               RouteDetail detail,
+                                                                               RouteEncoding encoding) {
+        if (mountainIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (detail == RouteDetail.FULL) {
+            return pathRepository.findByMountainIdIn(mountainIds).stream()
+                    .collect(Collectors.groupingBy(path -> path.getMountain().getId(), LinkedHashMap::new,
+                            Collectors.mapping(path -> toResponse(path, encoding), Collectors.toList())));
+        }
+
+        return pathRepository.findRouteViewsByMountainIdIn(mountainIds).stream()
+                .collect(Collectors.groupingBy(PathRouteView::getMountainId, LinkedHashMap::new,
+                        Collectors.mapping(view -> toResponse(view, simplifiedRoute(view, detail), encoding),
+                                Collectors.toList())));
+    }
+
+    private LineString simplifiedRoute(PathRouteView view, RouteDetail detail) {
+        LineString stored = detail == RouteDetail.LOW ? view.getRouteLow() : view.getRouteMid();
+        if (stored != null) {
+            return stored;
+        }
+
+        LineString route = pathRepository.findById(view.getId()).map(Path::getRoute).orElse(null);
+        if (route == null) {
+            return null;
+        }
+
+        Geometry simplified = DouglasPeuckerSimplifier.simplify(route, detail.getTolerance());
+        return simplified instanceof LineString line && line.getNumPoints() >= 2 ? line : route;
+    }
+
+    private static PathForTrackingResponseDto toResponse(PathRouteView view, LineString route, RouteEncoding encoding) {
+        return encoding == RouteEncoding.COMPACT
+                ? PathForTrackingResponseDto.encoded(view.getId(), view.getPathName(), view.getPathLength(), view.getPathTime(), route)
+                : PathForTrackingResponseDto.from(view.getId(), view.getPathName(), view.getPathLength(), view.getPathTime(), route);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.ollana.tracking.service;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+/*
+ * Google encoded polyline 알고리즘 (정밀도 1e-5)
+ * https://developers.google.com/maps/documentation/utilities/polylinealgorithm
+ */
+public final class PolylineEncoder {
+
+    private static final double PRECISION = 1e5;
+
+    private PolylineEncoder() {
+    }
+
+    public static String encode(LineString lineString) {
+        Coordinate[] coordinates = lineString.getCoordinates();
+        StringBuilder sb = new StringBuilder(coordinates.length * 8);
+
+        long prevLat = 0;
+        long prevLng = 0;
+        for (Coordinate coordinate : coordinates) {
+            long lat = Math.round(coordinate.getY() * PRECISION);   // Y = latitude
+            long lng = Math.round(coordinate.getX() * PRECISION);   // X = longitude
+
+            encodeValue(sb, lat - prevLat);
+            encodeValue(sb, lng - prevLng);
+
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(StringBuilder sb, long value) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssafy.ollana.tracking.service;
+
+/*
+ * 등산로 좌표 상세도
+ * - tolerance: Douglas-Peucker 단순화 허용 오차 (도 단위, 0 이면 원본)
+ */
+public enum RouteDetail {
+    LOW(0.0002),     // 약 20m, 목록/검색 화면용
+    MID(0.00005),    // 약 5m, 상세 화면용
+    FULL(0);         // 원본
+
+    private final double tolerance;
+
+    RouteDetail(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public static RouteDetail from(String detail) {
+        if (detail == null || detail.isBlank()) {
+            return FULL;
+        }
+        return RouteDetail.valueOf(detail.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.ollana.tracking.service;
+
+/*
+ * 등산로 / 대결 상대 기록 응답 형식
+ * - JSON: 좌표마다 JSON 객체 (기존 형식)
+ * - COMPACT: 등산로는 Google encoded polyline, 대결 상대 기록은 HikingTrackCodec 바이너리(Base64)
+ */
+public enum RouteEncoding {
+    JSON,
+    COMPACT;
+
+    public static RouteEncoding from(String encoding) {
+        if (encoding == null || encoding.isBlank()) {
+            return JSON;
+        }
+        return RouteEncoding.valueOf(encoding.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,222 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingProgressResponseDto;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * 등산로 위 진행률 / 남은 거리 / 도착 예상 시간 계산
+ * - 등산로 별로 누적 거리(m)와 구간 STRtree 를 한 번만 만들어 보관
+ * - GPS 포인트를 주변 구간에만 투영해 등산로 위 위치(시작점부터의 거리)를 구함
+ * - 사용자 별 직전 위치를 기억해 되돌아가는 구간으로 튀는 것을 막고, 이동 속도(EMA)로 ETA 계산
+ */
+@Component
+public class RouteProgressEngine {
+
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final double SNAP_RADIUS_METERS = 100;       // 등산로 이탈 판단 거리
+    private static final double MAX_SEARCH_METERS = 1000;       // 이탈 시 가장 가까운 구간 탐색 범위
+    private static final double BACKTRACK_PENALTY = 0.5;        // 뒤로 이동한 거리 1m 당 가중치
+    private static final double SPEED_SMOOTHING = 0.3;
+    private static final int MIN_ELAPSED_SECONDS = 60;
+
+    private final Map<Integer, PathModel> models = new ConcurrentHashMap<>();
+    private final Map<Integer, ProgressState> states = new ConcurrentHashMap<>();
+
+    // 구간 i : (lat[i], lng[i]) -> (lat[i + 1], lng[i + 1]), cumulative[i] : 시작점부터 i 번째 점까지 거리
+    private record PathModel(double[] lat, double[] lng, double[] cumulative, STRtree segments, double cosLat) {
+
+        double length() {
+            return cumulative[cumulative.length - 1];
+        }
+    }
+
+    private record Snap(double along, double offset, double lat, double lng) {
+    }
+
+    // lastSnap : 마지막으로 위치가 있던 포인트의 투영 결과 (탐색 범위 밖이면 null)
+    private record ProgressState(Integer pathId, double along, int time, double speed, Snap lastSnap) {
+
+        ProgressState withLastSnap(Snap snap) {
+            return new ProgressState(pathId, along, time, speed, snap);
+        }
+    }
+
+    /*
+     * 포인트 목록을 순서대로 반영하고 마지막 포인트 기준 진행 상황 반환
+     */
+    public TrackingProgressResponseDto update(Integer userId, Integer pathId, Supplier<LineString> routeLoader,
+                                              List<BattleRecordsForTrackingResponseDto> records) {
+        PathModel model = models.get(pathId);
+        if (model == null) {
+            LineString route = routeLoader.get();
+            if (route == null || route.getNumPoints() < 2) {
+                return null;
+            }
+            model = models.computeIfAbsent(pathId, id -> build(route));
+        }
+
+        ProgressState state = states.get(userId);
+        if (state != null && !state.pathId().equals(pathId)) {
+            state = null;
+        }
+
+        Snap snap = null;
+        boolean located = false;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            if (record.getLatitude() == null || record.getLongitude() == null) {
+                continue;
+            }
+
+            located = true;
+            snap = snap(model, record.getLatitude(), record.getLongitude(), state == null ? null : state.along());
+            state = next(state, pathId, snap, record.getTime());
+        }
+
+        if (state != null) {
+            if (located) {
+                state = state.withLastSnap(snap);
+            }
+            states.put(userId, state);
+        } else if (!located) {
+            return null;
+        }
+
+        // 이번 포인트에 위치가 하나도 없으면 마지막 위치 기준으로 응답
+        if (!located) {
+            snap = state.lastSnap();
+        }
+
+        // snap 이 null 이면 탐색 범위(MAX_SEARCH_METERS) 밖 -> 이탈, 거리는 알 수 없음
+        boolean onRoute = snap != null && snap.offset() <= SNAP_RADIUS_METERS;
+        double along = state != null ? state.along() : 0;
+        double remaining = Math.max(0, model.length() - along);
+        Integer eta = state != null && state.speed() > 0 ? (int) Math.round(remaining / state.speed()) : null;
+
+        return TrackingProgressResponseDto.builder()
+                .pathId(pathId)
+                .progress(model.length() > 0 ? Math.min(100, along / model.length() * 100) : 0)
+                .distanceAlong(along)
+                .remainingDistance(remaining)
+                .offRouteDistance(snap != null ? snap.offset() : null)
+                .onRoute(onRoute)
+                .etaSeconds(eta)
+                .snappedLatitude(onRoute ? snap.lat() : null)
+                .snappedLongitude(onRoute ? snap.lng() : null)
+                .build();
+    }
+
+    // 트래킹 시작 / 종료 시 사용자 상태 제거
+    public void reset(Integer userId) {
+        states.remove(userId);
+    }
+
+    private ProgressState next(ProgressState previous, Integer pathId, Snap snap, int time) {
+        // 등산로를 벗어난 동안은 위치를 갱신하지 않음 (처음부터 벗어나 있으면 상태를 만들지 않음)
+        if (snap == null || snap.offset() > SNAP_RADIUS_METERS) {
+            return previous;
+        }
+
+        if (previous == null) {
+            double speed = time >= MIN_ELAPSED_SECONDS ? snap.along() / time : 0;
+            return new ProgressState(pathId, snap.along(), time, speed, snap);
+        }
+
+        int elapsed = time - previous.time();
+        if (elapsed <= 0) {
+            return new ProgressState(pathId, snap.along(), previous.time(), previous.speed(), snap);
+        }
+
+        double instant = Math.max(0, snap.along() - previous.along()) / elapsed;
+        double speed = previous.speed() > 0
+                ? previous.speed() + SPEED_SMOOTHING * (instant - previous.speed())
+                : (time >= MIN_ELAPSED_SECONDS ? snap.along() / time : 0);
+        return new ProgressState(pathId, snap.along(), time, speed, snap);
+    }
+
+    // 주변 구간에 투영해 가장 적합한 위치 선택 (previousAlong 보다 뒤쪽은 가중치 부여)
+    private Snap snap(PathModel model, double lat, double lng, Double previousAlong) {
+        Snap best = null;
+        double bestScore = Double.MAX_VALUE;
+
+        for (double radius = SNAP_RADIUS_METERS; radius <= MAX_SEARCH_METERS && best == null; radius *= 10) {
+            for (Object item : model.segments().query(envelope(lat, lng, radius, model.cosLat()))) {
+                Snap candidate = project(model, (Integer) item, lat, lng);
+                double score = candidate.offset();
+                if (previousAlong != null && candidate.along() < previousAlong) {
+                    score += (previousAlong - candidate.along()) * BACKTRACK_PENALTY;
+                }
+
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = candidate;
+                }
+            }
+        }
+        return best;
+    }
+
+    // 구간 i 위로 투영 (구간 주변에서는 위도 보정한 평면 좌표계로 근사)
+    private Snap project(PathModel model, int i, double lat, double lng) {
+        double kx = METERS_PER_DEGREE * model.cosLat();
+        double ky = METERS_PER_DEGREE;
+
+        double ax = model.lng()[i] * kx;
+        double ay = model.lat()[i] * ky;
+        double dx = model.lng()[i + 1] * kx - ax;
+        double dy = model.lat()[i + 1] * ky - ay;
+        double px = lng * kx - ax;
+        double py = lat * ky - ay;
+
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared)) : 0;
+        double offset = Math.hypot(px - t * dx, py - t * dy);
+
+        double segmentLength = model.cumulative()[i + 1] - model.cumulative()[i];
+        double snappedLat = model.lat()[i] + t * (model.lat()[i + 1] - model.lat()[i]);
+        double snappedLng = model.lng()[i] + t * (model.lng()[i + 1] - model.lng()[i]);
+        return new Snap(model.cumulative()[i] + t * segmentLength, offset, snappedLat, snappedLng);
+    }
+
+    private static PathModel build(LineString route) {
+        Coordinate[] coordinates = route.getCoordinates();
+        int n = coordinates.length;
+
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        double[] cumulative = new double[n];
+        double latSum = 0;
+        for (int i = 0; i < n; i++) {
+            lat[i] = coordinates[i].y;
+            lng[i] = coordinates[i].x;
+            latSum += lat[i];
+            if (i > 0) {
+                cumulative[i] = cumulative[i - 1] + TrackingUtils.calculateDistance(lat[i - 1], lng[i - 1], lat[i], lng[i]);
+            }
+        }
+
+        STRtree segments = new STRtree();
+        for (int i = 0; i + 1 < n; i++) {
+            segments.insert(new Envelope(lng[i], lng[i + 1], lat[i], lat[i + 1]), i);
+        }
+        segments.build();
+
+        double cosLat = Math.max(Math.cos(Math.toRadians(n > 0 ? latSum / n : 0)), 0.01);
+        return new PathModel(lat, lng, cumulative, segments, cosLat);
+    }
+
+    private static Envelope envelope(double lat, double lng, double radiusMeters, double cosLat) {
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double dLng = radiusMeters / (METERS_PER_DEGREE * cosLat);
+        return new Envelope(lng - dLng, lng + dLng, lat - dLat, lat + dLat);
+    }
+}
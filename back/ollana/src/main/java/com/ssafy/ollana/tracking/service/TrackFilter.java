@@ -0,0 +1,244 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 저장 전 GPS 기록 정리
+ * 1. 속도 게이트 : 직전 포인트 기준 이동 속도가 비정상적으로 빠른 포인트(GPS 튐) 제거
+ *    - 기준 포인트 자체가 튄 경우(첫 측위 오차 등) 서로 이어지는 포인트가 연속으로 걸러지면 기준을 옮기고,
+ *      더 짧은 쪽 구간을 튄 포인트로 처리
+ * 2. 평활화 : 좌표를 이웃 포인트와 (1, 2, 1) 가중 평균
+ * 3. 솎아내기 : 이동 거리 / 진행 방향 변화 / 심박 변화 / 시간 간격 중 하나라도 기준을 넘는 포인트만 유지
+ * - 첫 포인트와 마지막 포인트는 항상 유지하므로 총 시간 / 총 거리는 바뀌지 않음 (튄 경우 좌표만 제거)
+ * - 대결 모드(ME, FRIEND)는 고스트 재생에 쓰이므로 더 촘촘하게 유지
+ */
+@Component
+@Slf4j
+public class TrackFilter {
+
+    private static final int REANCHOR_AFTER = 3;
+
+    @Value("${tracking.track-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tracking.track-filter.max-speed-mps:7}")
+    private double maxSpeed;
+
+    @Value("${tracking.track-filter.min-distance-m:10}")
+    private double minDistance;
+
+    @Value("${tracking.track-filter.battle-min-distance-m:5}")
+    private double battleMinDistance;
+
+    @Value("${tracking.track-filter.bearing-change-deg:25}")
+    private double bearingChange;
+
+    @Value("${tracking.track-filter.heart-rate-change:8}")
+    private int heartRateChange;
+
+    @Value("${tracking.track-filter.max-gap-s:60}")
+    private int maxGap;
+
+    @Value("${tracking.track-filter.battle-max-gap-s:30}")
+    private int battleMaxGap;
+
+    private final LongAdder input = new LongAdder();
+    private final LongAdder retained = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private record Settings(double minDistance, int maxGap) {
+    }
+
+    /*
+     * 시간순으로 정렬된 기록을 정리해 반환
+     */
+    public List<BattleRecordsForTrackingResponseDto> filter(String mode, List<BattleRecordsForTrackingResponseDto> records) {
+        if (!enabled || records.size() <= 2) {
+            return records;
+        }
+
+        Settings settings = settings(mode);
+        List<BattleRecordsForTrackingResponseDto> gated = rejectSpikes(records);
+        List<BattleRecordsForTrackingResponseDto> thinned = thin(smooth(gated), settings);
+
+        input.add(records.size());
+        retained.add(thinned.size());
+        rejected.add(records.size() - gated.size());
+        log.info("GPS 기록 정리 -> mode : {}, input : {}, retained : {}, rejected : {} / 누적 {}",
+                mode, records.size(), thinned.size(), records.size() - gated.size(), stats());
+        return thinned;
+    }
+
+    private String stats() {
+        long in = input.sum();
+        long kept = retained.sum();
+        return String.format("input=%d, retained=%d (%.1f%%), rejected=%d",
+                in, kept, in > 0 ? kept * 100.0 / in : 0, rejected.sum());
+    }
+
+    private Settings settings(String mode) {
+        if ("ME".equals(mode) || "FRIEND".equals(mode)) {
+            return new Settings(battleMinDistance, battleMaxGap);
+        }
+        return new Settings(minDistance, maxGap);
+    }
+
+    // 튄 포인트 제거 (첫 / 마지막 포인트는 좌표만 제거)
+    private List<BattleRecordsForTrackingResponseDto> rejectSpikes(List<BattleRecordsForTrackingResponseDto> records) {
+        boolean[] spike = findSpikes(records);
+
+        List<BattleRecordsForTrackingResponseDto> result = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (!spike[i]) {
+                result.add(records.get(i));
+            } else if (i == 0 || i == records.size() - 1) {
+                result.add(withLocation(records.get(i), null, null));
+            }
+        }
+        return result;
+    }
+
+    /*
+     * 기준 포인트(마지막으로 통과한 포인트)에서 maxSpeed 보다 빠르게 이동한 포인트를 튄 포인트로 표시
+     * - 걸러진 포인트끼리 서로 이어지며 REANCHOR_AFTER 개 쌓이면 기준을 그쪽으로 옮김
+     *   이때 기준 쪽 구간이 더 길지 않으면 (첫 측위 오차처럼) 그 구간을 튄 포인트로 바꿔 표시
+     */
+    private boolean[] findSpikes(List<BattleRecordsForTrackingResponseDto> records) {
+        boolean[] spike = new boolean[records.size()];
+        List<Integer> chain = new ArrayList<>();      // 현재 기준으로 이어진 포인트
+        List<Integer> pending = new ArrayList<>();    // 기준에서 걸러졌지만 서로 이어지는 포인트
+
+        for (int i = 0; i < records.size(); i++) {
+            if (!hasLocation(records.get(i))) {
+                continue;
+            }
+
+            if (chain.isEmpty() || isReachable(records, chain.get(chain.size() - 1), i)) {
+                chain.add(i);
+                pending.clear();
+                continue;
+            }
+
+            spike[i] = true;
+            if (!pending.isEmpty() && !isReachable(records, pending.get(pending.size() - 1), i)) {
+                pending.clear();
+            }
+            pending.add(i);
+
+            if (pending.size() >= REANCHOR_AFTER) {
+                if (chain.size() <= pending.size()) {
+                    chain.forEach(index -> spike[index] = true);
+                }
+                pending.forEach(index -> spike[index] = false);
+                chain = new ArrayList<>(pending);
+                pending.clear();
+            }
+        }
+        return spike;
+    }
+
+    private boolean isReachable(List<BattleRecordsForTrackingResponseDto> records, int from, int to) {
+        int elapsed = Math.max(1, records.get(to).getTime() - records.get(from).getTime());
+        return distance(records.get(from), records.get(to)) / elapsed <= maxSpeed;
+    }
+
+    private List<BattleRecordsForTrackingResponseDto> smooth(List<BattleRecordsForTrackingResponseDto> records) {
+        List<BattleRecordsForTrackingResponseDto> result = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            BattleRecordsForTrackingResponseDto record = records.get(i);
+            if (i == 0 || i == records.size() - 1 || !hasLocation(record)
+                    || !hasLocation(records.get(i - 1)) || !hasLocation(records.get(i + 1))) {
+                result.add(record);
+                continue;
+            }
+
+            BattleRecordsForTrackingResponseDto prev = records.get(i - 1);
+            BattleRecordsForTrackingResponseDto next = records.get(i + 1);
+            result.add(withLocation(record,
+                    (prev.getLatitude() + 2 * record.getLatitude() + next.getLatitude()) / 4,
+                    (prev.getLongitude() + 2 * record.getLongitude() + next.getLongitude()) / 4));
+        }
+        return result;
+    }
+
+    private List<BattleRecordsForTrackingResponseDto> thin(List<BattleRecordsForTrackingResponseDto> records, Settings settings) {
+        List<BattleRecordsForTrackingResponseDto> result = new ArrayList<>();
+        BattleRecordsForTrackingResponseDto lastKept = records.get(0);
+        Double lastBearing = null;
+        result.add(lastKept);
+
+        for (int i = 1; i < records.size() - 1; i++) {
+            BattleRecordsForTrackingResponseDto record = records.get(i);
+
+            boolean keep = record.getTime() - lastKept.getTime() >= settings.maxGap()
+                    || Math.abs(record.getHeartRate() - lastKept.getHeartRate()) >= heartRateChange;
+
+            // 좌표 없는 포인트 다음으로 처음 좌표가 있는 포인트는 유지
+            keep |= hasLocation(record) && !hasLocation(lastKept);
+
+            Double bearing = null;
+            if (hasLocation(record) && hasLocation(lastKept)) {
+                double meters = distance(lastKept, record);
+                if (meters >= settings.minDistance()) {
+                    bearing = bearing(lastKept, record);
+                    keep = true;
+                } else if (meters >= settings.minDistance() / 2 && lastBearing != null) {
+                    // 짧은 이동이라도 방향이 크게 바뀌면 (갈림길, 지그재그) 유지
+                    bearing = bearing(lastKept, record);
+                    keep |= angleBetween(lastBearing, bearing) >= bearingChange;
+                }
+            }
+
+            if (keep) {
+                result.add(record);
+                lastKept = record;
+                if (bearing != null) {
+                    lastBearing = bearing;
+                }
+            }
+        }
+
+        result.add(records.get(records.size() - 1));
+        return result;
+    }
+
+    private static boolean hasLocation(BattleRecordsForTrackingResponseDto record) {
+        return record.getLatitude() != null && record.getLongitude() != null;
+    }
+
+    private static double distance(BattleRecordsForTrackingResponseDto a, BattleRecordsForTrackingResponseDto b) {
+        return TrackingUtils.calculateDistance(a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
+    }
+
+    private static double bearing(BattleRecordsForTrackingResponseDto a, BattleRecordsForTrackingResponseDto b) {
+        double lat1 = Math.toRadians(a.getLatitude());
+        double lat2 = Math.toRadians(b.getLatitude());
+        double dLng = Math.toRadians(b.getLongitude() - a.getLongitude());
+        double y = Math.sin(dLng) * Math.cos(lat2);
+        double x = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1) * Math.cos(lat2) * Math.cos(dLng);
+        return (Math.toDegrees(Math.atan2(y, x)) + 360) % 360;
+    }
+
+    private static double angleBetween(double a, double b) {
+        double diff = Math.abs(a - b) % 360;
+        return diff > 180 ? 360 - diff : diff;
+    }
+
+    private static BattleRecordsForTrackingResponseDto withLocation(BattleRecordsForTrackingResponseDto record,
+                                                                    Double latitude, Double longitude) {
+        return BattleRecordsForTrackingResponseDto.builder()
+                                                  .time(record.getTime())
+                                                  .distance(record.getDistance())
+                                                  .heartRate(record.getHeartRate())
+                                                  .latitude(latitude)
+                                                  .longitude(longitude)
+                                                  .build();
+    }
+}
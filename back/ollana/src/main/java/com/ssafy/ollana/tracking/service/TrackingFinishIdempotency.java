@@ -0,0 +1,119 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.tracking.service.exception.FinishInProgressException;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingFinishResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*
+ * 트래킹 종료 요청 중복 처리 (Idempotency-Key)
+ * - tracking-finish:{userId}:{key} -> 처리 중이면 PENDING, 완료되면 응답 JSON
+ * - 같은 키로 다시 요청하면 DB 를 거치지 않고 저장된 응답 반환 (Redis 1회 조회)
+ * - 처리 중인 요청과 겹치면 완료될 때까지 잠시 기다렸다가 같은 응답 반환
+ * - 처리 실패 시 키를 지워 같은 키로 재시도할 수 있게 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrackingFinishIdempotency {
+
+    private static final String KEY_PREFIX = "tracking-finish:";
+    private static final String PENDING = "PENDING";
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30);
+    private static final Duration RESULT_TTL = Duration.ofHours(24);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // 값이 있으면 반환, 없으면 PENDING 으로 선점하고 nil 반환
+    private static final RedisScript<String> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('GET', KEYS[1])
+            if v then
+                return v
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return false
+            """, String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tracking.finish-idempotency.wait-ms:5000}")
+    private long waitMillis;
+
+    public TrackingFinishResponseDto execute(Integer userId, String idempotencyKey, Supplier<TrackingFinishResponseDto> finish) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return finish.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 가 너무 깁니다.");
+        }
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String cached = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key), PENDING, String.valueOf(PENDING_TTL.toMillis()));
+        if (cached != null) {
+            log.info("트래킹 종료 중복 요청 -> userId : {}, key : {}", userId, idempotencyKey);
+            return PENDING.equals(cached) ? await(key) : read(cached);
+        }
+
+        TrackingFinishResponseDto response;
+        try {
+            response = finish.get();
+        } catch (RuntimeException e) {
+            redisTemplate.delete(key);
+            throw e;
+        }
+
+        redisTemplate.opsForValue().set(key, write(response), RESULT_TTL);
+        return response;
+    }
+
+    // 먼저 들어온 요청이 끝날 때까지 대기
+    private TrackingFinishResponseDto await(String key) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                // 먼저 들어온 요청이 실패함
+                break;
+            }
+            if (!PENDING.equals(value)) {
+                return read(value);
+            }
+        }
+        throw new FinishInProgressException();
+    }
+
+    private String write(TrackingFinishResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트래킹 종료 응답 직렬화 실패", e);
+        }
+    }
+
+    private TrackingFinishResponseDto read(String value) {
+        try {
+            return objectMapper.readValue(value, TrackingFinishResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트래킹 종료 응답 역직렬화 실패", e);
+        }
+    }
+}
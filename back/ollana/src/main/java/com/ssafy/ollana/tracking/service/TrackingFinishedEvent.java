@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service;
+
+// 트래킹 종료(핵심 기록 저장) 시 발행 - 경험치 / 대결 결과 / 압축 트랙은 커밋 후 비동기 처리
+// hikingHistoryId : 기록을 저장하지 않은 경우 null
+// buildTrack : 기록에 연결된 업로드 포인트로 압축 트랙을 만들지 여부
+public record TrackingFinishedEvent(String eventId, Integer userId, Integer mountainId, Integer pathId, Integer hikingHistoryId,
+                                    String mode, Integer opponentId, Integer recordId,
+                                    Integer finalTime, Double finalDistance, boolean buildTrack) {
+}
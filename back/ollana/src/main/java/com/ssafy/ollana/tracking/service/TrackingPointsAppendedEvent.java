@@ -0,0 +1,7 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+
+// 누적 포인트 저장 시 발행 - 커밋 후 대결 고스트 전송 (롤백된 포인트는 전송하지 않음)
+public record TrackingPointsAppendedEvent(Integer userId, BattleRecordsForTrackingResponseDto lastPoint) {
+}
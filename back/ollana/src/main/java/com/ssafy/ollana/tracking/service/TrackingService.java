@@ -1,39 +1,50 @@
 package com.ssafy.ollana.tracking.service;
 
+import com.ssafy.ollana.common.util.CursorResponse;
+import com.ssafy.ollana.common.util.CursorUtil;
 import com.ssafy.ollana.footprint.persistent.entity.Footprint;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
 import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
-import com.ssafy.ollana.footprint.service.BattleHistoryService;
 import com.ssafy.ollana.footprint.service.exception.NotFoundException;
 import com.ssafy.ollana.footprint.web.dto.response.TodayHikingResultResponseDto;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
 import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainAutocompleteIndex;
+import com.ssafy.ollana.mountain.service.MountainSpatialIndex;
+import com.ssafy.ollana.mountain.service.PathMetadataIndex;
 import com.ssafy.ollana.mountain.web.dto.response.MountainResponseDto;
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrack;
+import com.ssafy.ollana.tracking.persistent.entity.TrackingCheckpoint;
+import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsBulkWriter;
 import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.persistent.repository.HikingTrackRepository;
+import com.ssafy.ollana.tracking.persistent.repository.TrackingCheckpointRepository;
 import com.ssafy.ollana.tracking.service.exception.AlreadyTrackingException;
 import com.ssafy.ollana.tracking.service.exception.CannotSaveBeforeSummitException;
+import com.ssafy.ollana.tracking.service.exception.InvalidBattleException;
 import com.ssafy.ollana.tracking.service.exception.InvalidTrackingException;
 import com.ssafy.ollana.tracking.service.exception.NoNearbyMountainException;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingFinishRequestDto;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingPointsRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingStartRequestDto;
 import com.ssafy.ollana.tracking.web.dto.response.*;
 import com.ssafy.ollana.user.entity.User;
 import com.ssafy.ollana.user.repository.UserRepository;
-import com.ssafy.ollana.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Coordinate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -45,37 +56,51 @@ public class TrackingService {
     private final UserRepository userRepository;
     private final HikingHistoryRepository hikingHistoryRepository;
     private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
-    private final UserService userService;
-    private final BattleHistoryService battleHistoryService;
+    private final HikingLiveRecordsBulkWriter hikingLiveRecordsBulkWriter;
+    private final HikingTrackRepository hikingTrackRepository;
+    private final TrackingCheckpointRepository trackingCheckpointRepository;
+    private final OpponentTrackCache opponentTrackCache;
+    private final PathRouteService pathRouteService;
+    private final MountainSpatialIndex mountainSpatialIndex;
+    private final PathMetadataIndex pathMetadataIndex;
+    private final MountainAutocompleteIndex mountainAutocompleteIndex;
+    private final RouteProgressEngine routeProgressEngine;
+    private final TrackFilter trackFilter;
+    private final BattleStreamRegistry battleStreamRegistry;
     private final ApplicationEventPublisher eventPublisher;
-    private final RedisTemplate<String, String> redisTemplate;
-    private static final String TRACKING_STATUS_KEY_PREFIX = "tracking:";
+    private final TrackingSessionStore trackingSessionStore;
+
+    // 압축 트랙 외에 행 단위(HikingLiveRecords) 기록도 유지할지 여부
+    @Value("${tracking.live-records.keep-rows:true}")
+    private boolean keepLiveRecordRows;
 
 
     /*
      * 사용자 위치 인식 후 가장 가까운 산 반환
      */
     @Transactional(readOnly = true)
-    public NearestMountainResponseDto findNearestMountain(double lat, double lng) {
-        Mountain mountain = mountainRepository.findNearestMountain(lat, lng)
+    public NearestMountainResponseDto findNearestMountain(double lat, double lng, RouteDetail detail, RouteEncoding encoding) {
+        Mountain mountain = findNearestMountainEntity(lat, lng)
                 .orElseThrow(NoNearbyMountainException::new);
 
-        List<Path> paths = pathRepository.findByMountainId(mountain.getId());
-
         return NearestMountainResponseDto.builder()
                 .mountain(MountainResponseDto.from(mountain))
-                .paths(paths.stream()
-                        .map(PathForTrackingResponseDto::from)
-                        .toList())
+                .paths(pathRouteService.getPaths(mountain.getId(), detail, encoding))
                 .build();
     }
 
     /*
      * 산 검색 시 자동완성
+     * - 메모리 인덱스에서 조회 (초성 검색 지원), 인덱스가 준비되지 않은 경우 DB 조회
      */
-    @Transactional(readOnly = true)
     public MountainSuggestionsResponseDto getMountainSuggestions(String mountainName) {
-        List<Mountain> mountains = mountainRepository.findTop10ByMountainNameContaining(mountainName);
+        if (mountainAutocompleteIndex.isReady()) {
+            return MountainSuggestionsResponseDto.of(mountainAutocompleteIndex.suggest(mountainName));
+        }
+
+        List<Mountain> mountains = mountainAutocompleteIndex.isTrigramEnabled()
+                ? mountainRepository.findTop10ByTrigram(mountainName)
+                : mountainRepository.findTop10ByMountainNameContaining(mountainName);
         return MountainSuggestionsResponseDto.from(mountains);
     }
 
@@ -83,20 +108,18 @@ public class TrackingService {
      * 산 검색 결과 반환
      */
     @Transactional(readOnly = true)
-    public MountainSearchResponseDto getMountainSearchResults(String mountainName) {
+    public MountainSearchResponseDto getMountainSearchResults(String mountainName, RouteDetail detail, RouteEncoding encoding) {
         List<Mountain> mountains = mountainRepository.findByMountainNameContaining(mountainName);
 
+        // 검색된 산들의 등산로를 한 번에 조회 후 산 별로 묶음
+        Map<Integer, List<PathForTrackingResponseDto>> pathsByMountain = pathRouteService.getPathsByMountain(
+                mountains.stream().map(Mountain::getId).toList(), detail, encoding);
+
         List<MountainSearchListResponseDto> results = mountains.stream()
-                .map(mountain -> {
-                    List<Path> paths = pathRepository.findByMountainId(mountain.getId());
-
-                    return MountainSearchListResponseDto.builder()
-                            .mountain(MountainAddressResponseDto.from(mountain))
-                            .paths(paths.stream()
-                                    .map(PathForTrackingResponseDto::from)
-                                    .toList())
-                            .build();
-                })
+                .map(mountain -> MountainSearchListResponseDto.builder()
+                        .mountain(MountainAddressResponseDto.from(mountain))
+                        .paths(pathsByMountain.getOrDefault(mountain.getId(), List.of()))
+                        .build())
                 .toList();
 
         return MountainSearchResponseDto.from(results);
@@ -106,17 +129,13 @@ public class TrackingService {
      * 산 리스트 중 특정 산 선택 시 결과 반환
      */
     @Transactional(readOnly = true)
-    public MountainSearchListResponseDto getMountainSelectResult(Integer mountainId) {
+    public MountainSearchListResponseDto getMountainSelectResult(Integer mountainId, RouteDetail detail, RouteEncoding encoding) {
         Mountain mountain = mountainRepository.findById(mountainId)
                 .orElseThrow(NotFoundException::new);
 
-        List<Path> paths = pathRepository.findByMountainId(mountainId);
-
         return MountainSearchListResponseDto.builder()
                 .mountain(MountainAddressResponseDto.from(mountain))
-                .paths(paths.stream()
-                        .map(PathForTrackingResponseDto::from)
-                        .toList())
+                .paths(pathRouteService.getPaths(mountainId, detail, encoding))
                 .build();
     }
 
@@ -150,23 +169,32 @@ public class TrackingService {
     public OpponentRecordListDto findOpponentRecords(Integer userId, Integer mountainId, Integer pathId, Integer opponentId) {
         Integer targetId = (opponentId != null) ? opponentId : userId;
 
-        List<HikingHistory> histories = hikingHistoryRepository
-                .findOpponentHistories(targetId, mountainId, pathId);
+        List<OpponentRecordDto> records = hikingHistoryRepository
+                .findOpponentRecords(targetId, mountainId, pathId, null, null);
 
-        return OpponentRecordListDto.from(histories);
+        return OpponentRecordListDto.of(records);
     }
 
     /*
-     * 트래킹 시작 요청
+     * 대결 상대의 등산 기록 조회 (keyset 페이지네이션, 최신순)
      */
     @Transactional(readOnly = true)
-    public TrackingStartResponseDto getTrackingStartInfo(Integer userId, TrackingStartRequestDto request) {
+    public CursorResponse<OpponentRecordDto> findOpponentRecordsByCursor(Integer userId, Integer mountainId, Integer pathId,
+                                                                         Integer opponentId, String cursor, int size) {
+        CursorUtil.checkSize(size);
+        Integer targetId = (opponentId != null) ? opponentId : userId;
 
-        // 등산 중인지 검증
-        String redisKey = getTrackingStatusKey(userId);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
-            throw new AlreadyTrackingException();
-        }
+        List<OpponentRecordDto> rows = hikingHistoryRepository
+                .findOpponentRecords(targetId, mountainId, pathId, CursorUtil.decode(cursor), size + 1);
+
+        return CursorResponse.of("records", rows, size, OpponentRecordDto::getRecordId, Function.identity());
+    }
+
+    /*
+     * 트래킹 시작 요청
+     */
+    @Transactional
+    public TrackingStartResponseDto getTrackingStartInfo(Integer userId, TrackingStartRequestDto request, RouteEncoding encoding) {
 
         Mountain mountain = mountainRepository.findById(request.getMountainId())
                 .orElseThrow(NotFoundException::new);
@@ -175,11 +203,7 @@ public class TrackingService {
                 .orElseThrow(NotFoundException::new);
 
         // 선택한 산이 사용자 현 위치를 기준으로 반경 15km 이내에 존재하는지 검증
-        boolean isNearby = mountainRepository.isMountainWithin10km(
-                request.getMountainId(),
-                request.getLatitude(),
-                request.getLongitude()
-        );
+        boolean isNearby = isMountainNearby(request.getMountainId(), request.getLatitude(), request.getLongitude());
 
         User opponent = null;
         HikingHistory hikingHistory = null;
@@ -200,17 +224,111 @@ public class TrackingService {
             hikingHistory = hikingHistoryRepository.findById(request.getRecordId())
                                                    .orElseThrow(NotFoundException::new);
         }
-        List<HikingLiveRecords> records = hikingLiveRecordsRepository.findByHikingHistoryId(request.getRecordId());
+        List<BattleRecordsForTrackingResponseDto> records = loadTrackRecords(request.getRecordId());
 
         if (opponent != null) {
-            opponentDto = OpponentResponseDto.from(opponent, hikingHistory, records);
+            opponentDto = encoding == RouteEncoding.COMPACT
+                    ? OpponentResponseDto.encoded(opponent, hikingHistory, records)
+                    : OpponentResponseDto.from(opponent, hikingHistory, records);
+        }
+
+        // 등산 중인지 검증 후 세션 저장 (한 번의 스크립트로 처리)
+        if (!trackingSessionStore.start(userId, request.getMountainId(), request.getPathId(),
+                request.getMode(), request.getRecordId())) {
+            throw new AlreadyTrackingException();
+        }
+        discardSessionOnRollback(userId);
+
+        // 이전에 중단된 트래킹에서 남은 포인트 / 집계 정리
+        hikingLiveRecordsRepository.deleteBufferedRecords(userId);
+        trackingCheckpointRepository.findById(userId).ifPresentOrElse(
+                checkpoint -> checkpoint.reset(request.getMountainId(), request.getPathId()),
+                () -> trackingCheckpointRepository.save(
+                        TrackingCheckpoint.of(userId, request.getMountainId(), request.getPathId())));
+        routeProgressEngine.reset(userId);
+
+        return TrackingStartResponseDto.from(isNearby, mountain,
+                pathRouteService.toResponse(path, encoding), opponentDto);
+    }
+
+    /*
+     * 트래킹 중 포인트 업로드 (체크포인트)
+     * - 등산 중 주기적으로 호출되어 포인트를 누적 저장하고, 종료 시 등산 기록에 연결
+     * - 마지막으로 저장된 포인트 이후의 포인트만 추가 (응답을 받지 못해 재전송한 포인트는 무시)
+     * - 마지막 포인트 기준 진행 상황 반환
+     */
+    @Transactional
+    public TrackingProgressResponseDto appendTrackingPoints(Integer userId, TrackingPointsRequestDto request) {
+        if (request.getRecords() == null || request.getRecords().isEmpty()) {
+            validateTrackingStatus(userId, request.getMountainId(), request.getPathId());
+            return null;
+        }
+
+        // 세션 검증과 마지막 포인트 / 포인트 수 갱신을 한 번에 처리
+        int[] times = request.getRecords().stream()
+                             .mapToInt(BattleRecordsForTrackingResponseDto::getTime)
+                             .toArray();
+        int previousLastTime = trackingSessionStore.heartbeat(userId, request.getMountainId(), request.getPathId(), times)
+                                                   .orElseThrow(InvalidTrackingException::new);
+
+        List<BattleRecordsForTrackingResponseDto> records = request.getRecords().stream()
+                .filter(record -> record.getTime() > previousLastTime)
+                .toList();
+
+        if (!records.isEmpty()) {
+            revertHeartbeatOnRollback(userId, records, previousLastTime);
+            hikingLiveRecordsBulkWriter.write(userId, request.getMountainId(), request.getPathId(), null, records);
+            accumulateCheckpoint(userId, request.getMountainId(), request.getPathId(), records);
+            eventPublisher.publishEvent(new TrackingPointsAppendedEvent(userId, records.get(records.size() - 1)));
+        }
+
+        // 등산로 위 진행률 / 남은 거리 / ETA
+        return routeProgressEngine.update(userId, request.getPathId(),
+                () -> pathRepository.findById(request.getPathId()).map(Path::getRoute).orElse(null),
+                records);
+    }
+
+    /*
+     * 앱 재시작 등으로 중단된 트래킹 이어하기
+     * - 세션 정보와 서버에 저장된 포인트(after 이후) 반환, 진행 상황도 저장된 포인트로 다시 계산
+     */
+    @Transactional(readOnly = true)
+    public TrackingResumeResponseDto resumeTracking(Integer userId, Integer after) {
+        TrackingSessionStore.TrackingSession session = trackingSessionStore.find(userId)
+                                                                           .orElseThrow(InvalidTrackingException::new);
+
+        List<BattleRecordsForTrackingResponseDto> records = hikingLiveRecordsRepository
+                .findByUserIdAndPathIdAndHikingHistoryIsNullOrderByTotalTimeAsc(userId, session.pathId())
+                .stream()
+                .map(BattleRecordsForTrackingResponseDto::from)
+                .toList();
+
+        TrackingProgressResponseDto progress = null;
+        if (!records.isEmpty()) {
+            routeProgressEngine.reset(userId);
+            progress = routeProgressEngine.update(userId, session.pathId(),
+                    () -> pathRepository.findById(session.pathId()).map(Path::getRoute).orElse(null),
+                    records);
         }
 
-        // redis에 등산 상태 저장
-        String redisValue = request.getMountainId() + ":" + request.getPathId();
-        redisTemplate.opsForValue().set(redisKey, redisValue, Duration.ofHours(24));
+        List<BattleRecordsForTrackingResponseDto> missing = after == null
+                ? records
+                : records.stream().filter(record -> record.getTime() > after).toList();
+        return TrackingResumeResponseDto.of(session, missing, progress);
+    }
 
-        return TrackingStartResponseDto.from(isNearby, mountain, path, opponentDto);
+    /*
+     * 대결 고스트 실시간 스트림 연결
+     * - 트래킹 중인 사용자만 연결 가능, 이후 업로드되는 포인트마다 상대 위치 / 시간 차 전송
+     * - 상대 기록은 트래킹 시작 시 세션에 저장한 기록만 사용
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter openBattleStream(Integer userId, Integer mountainId, Integer pathId) {
+        TrackingSessionStore.TrackingSession session = validateTrackingStatus(userId, mountainId, pathId);
+        if (session.recordId() == null) {
+            throw new InvalidBattleException();
+        }
+        return battleStreamRegistry.open(userId, loadTrackRecords(session.recordId()));
     }
 
     /*
@@ -220,24 +338,55 @@ public class TrackingService {
     public TrackingFinishResponseDto manageTrackingFinish(Integer userId, TrackingFinishRequestDto request) {
         log.info("트래킹 종료 API 호출 -> 요청 데이터 : {}", request);
 
-        String redisKey = getTrackingStatusKey(userId);
-        String redisValue = (String) redisTemplate.opsForValue().get(redisKey);
-        String expectedValue = request.getMountainId() + ":" + request.getPathId();
-        if (redisValue == null || !redisValue.equals(expectedValue)) {
-            throw new InvalidTrackingException();
+        validateTrackingStatus(userId, request.getMountainId(), request.getPathId());
+
+        // records 없이 종료 요청 시 트래킹 중 업로드된 포인트의 집계 사용
+        // - 집계 행을 잠가 진행 중인 업로드가 커밋된 뒤 종료 (누적 포인트는 다시 읽지 않음)
+        boolean isBuffered = request.getRecords() == null || request.getRecords().isEmpty();
+        TrackingCheckpoint checkpoint = isBuffered
+                ? trackingCheckpointRepository.findForUpdate(userId)
+                                              .filter(found -> request.getPathId().equals(found.getPathId()))
+                                              .orElse(null)
+                : null;
+
+        // 요청에 없는 종료 시간 / 거리 / 위치는 업로드된 마지막 포인트 기준
+        Integer finalTime = request.getFinalTime();
+        Double finalDistance = request.getFinalDistance();
+        Double finalLatitude = request.getFinalLatitude();
+        Double finalLongitude = request.getFinalLongitude();
+        if (checkpoint != null) {
+            finalTime = finalTime != null ? finalTime : checkpoint.getLastTime();
+            finalDistance = finalDistance != null ? finalDistance : checkpoint.getLastDistance();
+            if (finalLatitude == null || finalLongitude == null) {
+                finalLatitude = checkpoint.getLastLatitude();
+                finalLongitude = checkpoint.getLastLongitude();
+            }
         }
 
-        User user = userRepository.findById(userId).orElseThrow(NotFoundException::new);
-        Path path = pathRepository.findById(request.getPathId()).orElseThrow(NotFoundException::new);
+        User user = userRepository.getReferenceById(userId);
         Mountain mountain = mountainRepository.findById(request.getMountainId()).orElseThrow(NotFoundException::new);
 
-        // 정상 도착했는지 확인
-        Coordinate end = path.getRoute().getEndPoint().getCoordinate();
-        double endLat = end.y;
-        double endLng = end.x;
-        double userLat = request.getFinalLatitude();
-        double userLng = request.getFinalLongitude();
-        double distance = TrackingUtils.calculateDistance(endLat, endLng, userLat, userLng);
+        // 대결 상대 / 상대 기록 검증 (대결 결과 저장은 커밋 후 처리되므로 잘못된 요청은 여기서 실패시킴)
+        if ("FRIEND".equals(request.getMode())) {
+            if (request.getOpponentId() == null || request.getRecordId() == null) {
+                throw new InvalidBattleException();
+            }
+            if (!userRepository.existsById(request.getOpponentId())) {
+                throw new NotFoundException();
+            }
+        }
+
+        HikingHistory opponentHistory = null;
+        if (("ME".equals(request.getMode()) || "FRIEND".equals(request.getMode())) && request.getRecordId() != null) {
+            opponentHistory = hikingHistoryRepository.findById(request.getRecordId())
+                                                     .orElseThrow(NotFoundException::new);
+        }
+
+        // 정상 도착했는지 확인 (등산로 경로 전체 대신 메타데이터 인덱스의 끝 좌표 사용)
+        PathMetadataIndex.PathMetadata pathMetadata = pathMetadataIndex.get(request.getPathId())
+                                                                       .orElseThrow(NotFoundException::new);
+        double distance = pathMetadata.distanceToEnd(finalLatitude, finalLongitude);
+        Path path = pathRepository.getReferenceById(pathMetadata.pathId());
 
         if (distance > 300 && request.isSave()) {
             throw new CannotSaveBeforeSummitException();
@@ -248,53 +397,216 @@ public class TrackingService {
         Double avg = null;
         Integer max = null;
         Integer timeDiff = null;
+        Integer historyId = null;
+        boolean buildTrack = false;
 
         // 기록 저장 및 응답 데이터 계산
         if (request.isSave()) {
             Footprint footprint = footprintRepository.findByUserAndMountain(user, mountain)
                                         .orElseGet(() -> footprintRepository.save(Footprint.of(user, mountain)));
 
-            List<Integer> heartRates = request.getRecords().stream()
-                    .map(BattleRecordsForTrackingResponseDto::getHeartRate)
-                    .filter(Objects::nonNull)
-                    .toList();
+            if (isBuffered) {
+                // 심박 통계는 업로드 시 누적한 집계 사용
+                HeartRateStats heartRateStats = checkpoint != null
+                        ? HeartRateStats.fromBytes(checkpoint.getHeartRateState())
+                        : new HeartRateStats();
+
+                HikingHistory history = toHistory(footprint, path, finalTime, heartRateStats);
+                hikingHistoryRepository.save(history);
+
+                // 업로드된 포인트는 기록에 연결만 하고, 압축 트랙은 커밋 후 이 행들로 생성 (TrackingTaskHandler)
+                int attached = hikingLiveRecordsRepository.attachBufferedRecords(userId, path.getId(), history);
+                log.info("트래킹 중 업로드된 포인트 연결 완료 -> userId : {}, count : {}, aggregated : {}",
+                        userId, attached, checkpoint != null ? checkpoint.getPointCount() : 0);
+                buildTrack = attached > 0;
+
+                avg = history.getAverageHeartRate();
+                max = history.getMaxHeartRate();
+                historyId = history.getId();
+            } else {
+                List<BattleRecordsForTrackingResponseDto> records = request.getRecords().stream()
+                        .sorted(Comparator.comparingInt(BattleRecordsForTrackingResponseDto::getTime))
+                        .toList();
+
+                // 심박 통계 (한 번 순회로 최소 / 최대 / 평균 / 백분위 / 구간별 시간 / drift)
+                HeartRateStats heartRateStats = new HeartRateStats();
+                for (BattleRecordsForTrackingResponseDto record : records) {
+                    heartRateStats.add(record.getTime(), record.getHeartRate());
+                }
+
+                HikingHistory history = toHistory(footprint, path, finalTime, heartRateStats);
+                hikingHistoryRepository.save(history);
+
+                // 튀는 좌표 제거 / 평활화 / 솎아낸 뒤 압축 트랙 저장 (심박 통계는 원본 기준)
+                List<BattleRecordsForTrackingResponseDto> track = trackFilter.filter(request.getMode(), records);
+                hikingTrackRepository.save(HikingTrack.of(history, HikingTrackCodec.encode(track), track.size()));
+
+                // 행 단위 기록은 필터링 전 원본을 같은 트랜잭션에서 COPY 로 저장
+                if (keepLiveRecordRows) {
+                    hikingLiveRecordsBulkWriter.write(userId, mountain.getId(), path.getId(), history.getId(), records);
+                }
+
+                avg = history.getAverageHeartRate();
+                max = history.getMaxHeartRate();
+                historyId = history.getId();
+            }
+        }
+
+        // 나 VS 친구, 나 VS 나인 경우 timeDiff 계산
+        if (opponentHistory != null) {
+            timeDiff = finalTime - opponentHistory.getHikingTime();
+        }
+
+        // 기록에 연결되지 않은 포인트 / 집계 정리 (저장하지 않은 경우 등)
+        hikingLiveRecordsRepository.deleteBufferedRecords(userId);
+        trackingCheckpointRepository.deleteByUserId(userId);
+        routeProgressEngine.reset(userId);
+        battleStreamRegistry.close(userId);
 
-            HikingHistory history = HikingHistory.of(footprint, path, request.getFinalTime(), heartRates);
-            hikingHistoryRepository.save(history);
+        // 세션 제거 (그 사이 다른 등산로로 다시 시작한 경우 제외)
+        trackingSessionStore.finish(userId, request.getMountainId(), request.getPathId());
 
-            avg = history.getAverageHeartRate();
-            max = history.getMaxHeartRate();
+        // 경험치 / 거리 갱신, 대결 결과 저장, 압축 트랙 생성은 커밋 후 비동기 처리 (TrackingTaskDispatcher)
+        eventPublisher.publishEvent(new TrackingFinishedEvent(UUID.randomUUID().toString(), userId,
+                request.getMountainId(), request.getPathId(), historyId, request.getMode(), request.getOpponentId(),
+                request.getRecordId(), finalTime, finalDistance, buildTrack));
+        return TrackingFinishResponseDto.of(badge, avg, max, timeDiff);
+    }
 
-            List<HikingLiveRecords> entityList = TrackingUtils.toEntities(request.getRecords(), user, mountain, path, history);
-            hikingLiveRecordsRepository.saveAll(entityList);
 
-            // 경험치 및 거리 갱신
-            userService.updateUserInfoAfterTracking(user, request.getFinalDistance(), mountain.getLevel());
+    /*
+     * 업로드된 포인트를 사용자 집계(포인트 수 / 마지막 포인트 / 심박 통계)에 누적
+     * - 같은 사용자의 동시 업로드는 행 잠금으로 순서대로 처리
+     * - 시작 전에 생성되지 않은 경우(이전 버전에서 시작한 트래킹 등) 새로 만듦
+     */
+    private void accumulateCheckpoint(Integer userId, Integer mountainId, Integer pathId,
+                                      List<BattleRecordsForTrackingResponseDto> records) {
+        TrackingCheckpoint checkpoint = trackingCheckpointRepository.findForUpdate(userId)
+                .orElseGet(() -> trackingCheckpointRepository.save(TrackingCheckpoint.of(userId, mountainId, pathId)));
+        if (!pathId.equals(checkpoint.getPathId())) {
+            checkpoint.reset(mountainId, pathId);
         }
 
-        // 나 VS 친구인 경우 대결 결과 저장
-        if ("FRIEND".equals(request.getMode())) {
-            User opponent = userRepository.findById(request.getOpponentId()).orElseThrow(NotFoundException::new);
-            battleHistoryService.saveBattleHistoryAfterTracking(user, opponent, mountain, path, request.getRecordId(), request.getFinalTime());
+        List<BattleRecordsForTrackingResponseDto> sorted = records.stream()
+                .sorted(Comparator.comparingInt(BattleRecordsForTrackingResponseDto::getTime))
+                .toList();
+
+        HeartRateStats stats = HeartRateStats.fromBytes(checkpoint.getHeartRateState());
+        BattleRecordsForTrackingResponseDto lastLocated = null;
+        for (BattleRecordsForTrackingResponseDto record : sorted) {
+            stats.add(record.getTime(), record.getHeartRate());
+            if (record.getLatitude() != null && record.getLongitude() != null) {
+                lastLocated = record;
+            }
         }
 
-        // 나 VS 친구, 나 VS 나인 경우 timeDiff 계산
-        if ("ME".equals(request.getMode()) || "FRIEND".equals(request.getMode())) {
-            if (request.getRecordId() != null) {
-                HikingHistory opponentHistory = hikingHistoryRepository.findById(request.getRecordId())
-                                                     .orElseThrow(NotFoundException::new);
-                timeDiff = request.getFinalTime() - opponentHistory.getHikingTime();
+        BattleRecordsForTrackingResponseDto last = sorted.get(sorted.size() - 1);
+        checkpoint.append(sorted.size(), last.getTime(), last.getDistance(),
+                lastLocated != null ? lastLocated.getLatitude() : null,
+                lastLocated != null ? lastLocated.getLongitude() : null,
+                stats.toBytes());
+    }
+
+    // 심박 통계를 등산 기록 요약 컬럼으로 변환 (측정된 심박이 없으면 요약은 null)
+    private static HikingHistory toHistory(Footprint footprint, Path path, int hikingTime, HeartRateStats stats) {
+        boolean measured = stats.getCount() > 0;
+
+        return HikingHistory.builder()
+                .footprint(footprint)
+                .path(path)
+                .hikingTime(hikingTime)
+                .averageHeartRate(stats.getAverage())
+                .maxHeartRate(stats.getMax())
+                .minHeartRate(measured ? stats.getMin() : null)
+                .heartRateP50(measured ? stats.percentile(50) : null)
+                .heartRateP90(measured ? stats.percentile(90) : null)
+                .zone1Seconds(measured ? stats.getZoneSeconds(1) : null)
+                .zone2Seconds(measured ? stats.getZoneSeconds(2) : null)
+                .zone3Seconds(measured ? stats.getZoneSeconds(3) : null)
+                .zone4Seconds(measured ? stats.getZoneSeconds(4) : null)
+                .zone5Seconds(measured ? stats.getZoneSeconds(5) : null)
+                .heartRateDrift(measured ? stats.getDrift() : null)
+                .build();
+    }
+
+    // 메모리 공간 인덱스로 가장 가까운 산 조회 (인덱스 미적재 / 불일치 시 PostGIS 조회)
+    private Optional<Mountain> findNearestMountainEntity(double lat, double lng) {
+        if (!mountainSpatialIndex.isReady()) {
+            return mountainRepository.findNearestMountain(lat, lng);
+        }
+
+        Optional<Integer> mountainId = mountainSpatialIndex.findNearestMountainId(lat, lng);
+        if (mountainId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return mountainRepository.findById(mountainId.get())
+                .or(() -> mountainRepository.findNearestMountain(lat, lng));
+    }
+
+    // 메모리 공간 인덱스로 반경 검증 (인덱스 미적재 / 인덱스에 없는 산이면 PostGIS 조회)
+    private boolean isMountainNearby(Integer mountainId, double lat, double lng) {
+        if (mountainSpatialIndex.isReady()) {
+            Optional<Boolean> isNearby = mountainSpatialIndex.isMountainWithinRadius(mountainId, lat, lng);
+            if (isNearby.isPresent()) {
+                return isNearby.get();
             }
         }
+        return mountainRepository.isMountainWithin10km(mountainId, lat, lng);
+    }
 
-        // Redis key 제거
-        redisTemplate.delete(redisKey);
-        return TrackingFinishResponseDto.of(badge, avg, max, timeDiff);
+    // 캐시 -> 압축 트랙 -> 행 단위 기록 순으로 조회
+    private List<BattleRecordsForTrackingResponseDto> loadTrackRecords(Integer hikingHistoryId) {
+        if (hikingHistoryId == null) {
+            return List.of();
+        }
+
+        return opponentTrackCache.get(hikingHistoryId, () -> hikingTrackRepository.findById(hikingHistoryId)
+                .map(track -> HikingTrackCodec.decode(track.getData()))
+                .orElseGet(() -> hikingLiveRecordsRepository.findByHikingHistoryIdOrderByTotalTimeAsc(hikingHistoryId)
+                                                            .stream()
+                                                            .map(BattleRecordsForTrackingResponseDto::from)
+                                                            .toList()));
+    }
+
+    // 사용자가 해당 산의 등산로를 등산 중인지 검증
+    private TrackingSessionStore.TrackingSession validateTrackingStatus(Integer userId, Integer mountainId, Integer pathId) {
+        return trackingSessionStore.find(userId)
+                                   .filter(session -> session.matches(mountainId, pathId))
+                                   .orElseThrow(InvalidTrackingException::new);
     }
 
+    // 포인트 저장이 롤백되면 세션의 마지막 포인트 시간 / 포인트 수를 되돌려 재전송 시 다시 저장되게 함
+    private void revertHeartbeatOnRollback(Integer userId, List<BattleRecordsForTrackingResponseDto> records, int previousLastTime) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
 
-    private String getTrackingStatusKey(Integer userId) {
-        return TRACKING_STATUS_KEY_PREFIX + userId;
+        int lastTime = records.stream().mapToInt(BattleRecordsForTrackingResponseDto::getTime).max().getAsInt();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    trackingSessionStore.revertHeartbeat(userId, lastTime, previousLastTime, records.size());
+                }
+            }
+        });
+    }
+
+    // 시작 트랜잭션이 롤백되면 저장한 세션도 제거
+    private void discardSessionOnRollback(Integer userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    trackingSessionStore.discard(userId);
+                }
+            }
+        });
     }
 
 }
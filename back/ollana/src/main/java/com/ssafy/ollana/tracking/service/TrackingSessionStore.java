@@ -0,0 +1,270 @@
+package com.ssafy.ollana.tracking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 트래킹 세션 (Redis hash)
+ * - tracking-session:{userId} -> mountainId, pathId, mode, recordId, startedAt, lastPointTime, lastPointAt, pointCount
+ * - 시작 / 포인트 수신 / 종료는 Lua 스크립트로 검사와 변경을 한 번에 처리
+ * - 이전 형식(tracking:{userId} = "mountainId:pathId") 세션은 만료될 때까지 조회 / 종료만 지원
+ */
+@Component
+@RequiredArgsConstructor
+public class TrackingSessionStore {
+
+    private static final String SESSION_KEY_PREFIX = "tracking-session:";
+    private static final String LEGACY_KEY_PREFIX = "tracking:";
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+    private static final StringRedisSerializer SERIALIZER = StringRedisSerializer.UTF_8;
+
+    // KEYS : 세션 키, 이전 형식 키 / ARGV : TTL(초), field, value, ...
+    private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS : 세션 키 / ARGV : mountainId, pathId, 수신 시각, TTL(초), 포인트 시간, ...
+    // - 마지막 포인트 시간 이후의 포인트만 새 포인트로 셈 (재전송된 체크포인트는 제외)
+    // 반환 : 세션 불일치 -2, 이전 마지막 포인트 시간 (없으면 -1)
+    private static final RedisScript<Long> HEARTBEAT_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('HMGET', KEYS[1], 'mountainId', 'pathId', 'lastPointTime')
+            if v[1] ~= ARGV[1] or v[2] ~= ARGV[2] then
+                return -2
+            end
+            local last = tonumber(v[3]) or -1
+            local latest = last
+            local added = 0
+            for i = 5, #ARGV do
+                local t = tonumber(ARGV[i])
+                if t > last then
+                    added = added + 1
+                    if t > latest then
+                        latest = t
+                    end
+                end
+            end
+            if added > 0 then
+                redis.call('HSET', KEYS[1], 'lastPointTime', latest)
+                redis.call('HINCRBY', KEYS[1], 'pointCount', added)
+            end
+            redis.call('HSET', KEYS[1], 'lastPointAt', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return last
+            """, Long.class);
+
+    // KEYS : 세션 키 / ARGV : 갱신한 마지막 포인트 시간, 이전 마지막 포인트 시간, 추가한 포인트 수
+    // - 포인트 저장이 롤백된 경우 heartbeat 로 올린 값을 되돌림 (그 사이 다른 요청이 갱신했으면 유지)
+    private static final RedisScript<Long> REVERT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'lastPointTime') ~= ARGV[1] then
+                return 0
+            end
+            if tonumber(ARGV[2]) < 0 then
+                redis.call('HDEL', KEYS[1], 'lastPointTime')
+            else
+                redis.call('HSET', KEYS[1], 'lastPointTime', ARGV[2])
+            end
+            redis.call('HINCRBY', KEYS[1], 'pointCount', -tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
+    // KEYS : 세션 키, 이전 형식 키 / ARGV : mountainId, pathId
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('HMGET', KEYS[1], 'mountainId', 'pathId')
+            if v[1] == ARGV[1] and v[2] == ARGV[2] then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 1
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[1] .. ':' .. ARGV[2] then
+                redis.call('DEL', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final long HEARTBEAT_MISMATCH = -2;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record TrackingSession(Integer userId, Integer mountainId, Integer pathId, String mode, Integer recordId,
+                                  Long startedAt, Integer lastPointTime, Long lastPointAt, int pointCount) {
+
+        public boolean matches(Integer mountainId, Integer pathId) {
+            return this.mountainId != null && this.mountainId.equals(mountainId)
+                    && this.pathId != null && this.pathId.equals(pathId);
+        }
+    }
+
+    /*
+     * 세션 시작 (이미 세션이 있으면 false)
+     */
+    public boolean start(Integer userId, Integer mountainId, Integer pathId, String mode, Integer recordId) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(SESSION_TTL.toSeconds()));
+        addField(args, "mountainId", mountainId);
+        addField(args, "pathId", pathId);
+        addField(args, "mode", mode);
+        addField(args, "recordId", recordId);
+        addField(args, "startedAt", System.currentTimeMillis());
+        addField(args, "pointCount", 0);
+
+        Long result = redisTemplate.execute(START_SCRIPT,
+                List.of(sessionKey(userId), legacyKey(userId)), args.toArray());
+        return Long.valueOf(1).equals(result);
+    }
+
+    /*
+     * 포인트 수신 기록 (세션 검증 + 마지막 포인트 / 포인트 수 갱신 + TTL 연장)
+     * - 세션이 없거나 다른 등산로면 empty, 아니면 이전 마지막 포인트 시간 (-1 : 없음)
+     */
+    public Optional<Integer> heartbeat(Integer userId, Integer mountainId, Integer pathId, int[] pointTimes) {
+        List<String> args = new ArrayList<>(pointTimes.length + 4);
+        args.add(String.valueOf(mountainId));
+        args.add(String.valueOf(pathId));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(SESSION_TTL.toSeconds()));
+        for (int time : pointTimes) {
+            args.add(String.valueOf(time));
+        }
+
+        Long result = redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(sessionKey(userId)), args.toArray());
+        if (result == null || result == HEARTBEAT_MISMATCH) {
+            return Optional.empty();
+        }
+        return Optional.of(result.intValue());
+    }
+
+    public void revertHeartbeat(Integer userId, int lastPointTime, int previousLastPointTime, int addedPoints) {
+        redisTemplate.execute(REVERT_SCRIPT, List.of(sessionKey(userId)),
+                String.valueOf(lastPointTime), String.valueOf(previousLastPointTime), String.valueOf(addedPoints));
+    }
+
+    /*
+     * 세션 종료 (같은 산 / 등산로의 세션인 경우에만 삭제)
+     */
+    public boolean finish(Integer userId, Integer mountainId, Integer pathId) {
+        Long result = redisTemplate.execute(FINISH_SCRIPT, List.of(sessionKey(userId), legacyKey(userId)),
+                String.valueOf(mountainId), String.valueOf(pathId));
+        return Long.valueOf(1).equals(result);
+    }
+
+    // 시작 후 트랜잭션이 롤백된 경우 등 검증 없이 세션 제거
+    public void discard(Integer userId) {
+        redisTemplate.delete(List.of(sessionKey(userId), legacyKey(userId)));
+    }
+
+    public Optional<TrackingSession> find(Integer userId) {
+        return Optional.ofNullable(findAll(List.of(userId)).get(userId));
+    }
+
+    /*
+     * 여러 사용자의 세션을 한 번의 파이프라인으로 조회 (세션이 없는 사용자는 제외)
+     */
+    public Map<Integer, TrackingSession> findAll(Collection<Integer> userIds) {
+        List<Integer> ids = List.copyOf(userIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Integer userId : ids) {
+                readSession(connection, userId);
+            }
+            return null;
+        }, SERIALIZER);
+
+        // 사용자 당 HGETALL, GET 결과가 순서대로 들어 있음
+        Map<Integer, TrackingSession> sessions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            TrackingSession session = toSession(ids.get(i), results.get(2 * i), results.get(2 * i + 1));
+            if (session != null) {
+                sessions.put(ids.get(i), session);
+            }
+        }
+        return sessions;
+    }
+
+    private void readSession(RedisConnection connection, Integer userId) {
+        connection.hashCommands().hGetAll(raw(sessionKey(userId)));
+        connection.stringCommands().get(raw(legacyKey(userId)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TrackingSession toSession(Integer userId, Object hash, Object legacy) {
+        if (hash instanceof Map<?, ?> fields && !fields.isEmpty()) {
+            Map<String, String> values = (Map<String, String>) fields;
+            return new TrackingSession(userId,
+                    parseInt(values.get("mountainId")),
+                    parseInt(values.get("pathId")),
+                    values.get("mode"),
+                    parseInt(values.get("recordId")),
+                    parseLong(values.get("startedAt")),
+                    parseInt(values.get("lastPointTime")),
+                    parseLong(values.get("lastPointAt")),
+                    Optional.ofNullable(parseInt(values.get("pointCount"))).orElse(0));
+        }
+
+        if (legacy instanceof String value) {
+            String[] parts = value.split(":");
+            if (parts.length == 2) {
+                return new TrackingSession(userId, parseInt(parts[0]), parseInt(parts[1]),
+                        null, null, null, null, null, 0);
+            }
+        }
+        return null;
+    }
+
+    private static void addField(List<String> args, String field, Object value) {
+        if (value != null) {
+            args.add(field);
+            args.add(String.valueOf(value));
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sessionKey(Integer userId) {
+        return SESSION_KEY_PREFIX + userId;
+    }
+
+    private static String legacyKey(Integer userId) {
+        return LEGACY_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/*
+ * 트래킹 종료 후처리 실행
+ * - TrackingFinishedEvent 발행 시 같은 트랜잭션에서 outbox 저장, 커밋 후 전용 스레드 풀에서 실행
+ * - 실행 중 서버가 내려가거나 실패한 작업은 스케줄러가 재시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrackingTaskDispatcher {
+
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final TrackingTaskHandler trackingTaskHandler;
+
+    @Qualifier(AsyncConfig.TRACKING_TASK_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    // 종료 트랜잭션 안에서 호출됨 (롤백 시 outbox 도 함께 롤백)
+    @EventListener
+    public void onTrackingFinished(TrackingFinishedEvent event) {
+        trackingTaskHandler.enqueue(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterTrackingFinished(TrackingFinishedEvent event) {
+        submit(() -> trackingTaskHandler.findTaskIds(event.eventId()).forEach(this::run));
+    }
+
+    @Scheduled(initialDelayString = "${tracking.finish-tasks.poll-ms:30000}",
+               fixedDelayString = "${tracking.finish-tasks.poll-ms:30000}")
+    public void retryDueTasks() {
+        try {
+            for (Long taskId : trackingTaskHandler.findDueTaskIds(RETRY_BATCH_SIZE)) {
+                if (trackingTaskHandler.claim(taskId)) {
+                    submit(() -> run(taskId));
+                }
+            }
+        } catch (Exception e) {
+            log.error("트래킹 후처리 재시도 조회 실패", e);
+        }
+    }
+
+    private void run(Long taskId) {
+        try {
+            trackingTaskHandler.handle(taskId);
+        } catch (Exception e) {
+            try {
+                trackingTaskHandler.recordFailure(taskId, e);
+            } catch (Exception recordError) {
+                log.error("트래킹 후처리 실패 기록 실패 -> taskId : {}", taskId, recordError);
+            }
+        }
+    }
+
+    // 풀이 종료된 경우 작업은 outbox 에 남아 재시도 스케줄러가 처리
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("트래킹 후처리 실행 거부 -> 재시도 대기");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.service.BattleHistoryService;
+import com.ssafy.ollana.footprint.service.exception.NotFoundException;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrack;
+import com.ssafy.ollana.tracking.persistent.entity.TrackingTask;
+import com.ssafy.ollana.tracking.persistent.entity.enums.TrackingTaskType;
+import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
+import com.ssafy.ollana.tracking.persistent.repository.HikingTrackRepository;
+import com.ssafy.ollana.tracking.persistent.repository.TrackingTaskRepository;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.ssafy.ollana.user.entity.User;
+import com.ssafy.ollana.user.repository.UserRepository;
+import com.ssafy.ollana.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 트래킹 종료 후처리 작업 저장 / 실행
+ * - 작업 실행과 outbox 행 삭제가 한 트랜잭션으로 처리되어 완료된 작업은 다시 실행되지 않음
+ * - 실행 중에는 행을 잠가 커밋 직후 실행과 재시도 스케줄러가 같은 작업을 동시에 실행하지 않음
+ * - 실패 시 지수 백오프로 재시도 시각을 미루고, 최대 횟수를 넘기면 FAILED 로 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrackingTaskHandler {
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 3_600_000;
+
+    private final TrackingTaskRepository trackingTaskRepository;
+    private final UserRepository userRepository;
+    private final MountainRepository mountainRepository;
+    private final PathRepository pathRepository;
+    private final HikingHistoryRepository hikingHistoryRepository;
+    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
+    private final HikingTrackRepository hikingTrackRepository;
+    private final TrackFilter trackFilter;
+    private final OpponentTrackCache opponentTrackCache;
+    private final UserService userService;
+    private final BattleHistoryService battleHistoryService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tracking.live-records.keep-rows:true}")
+    private boolean keepLiveRecordRows;
+
+    @Value("${tracking.finish-tasks.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${tracking.finish-tasks.retry-base-ms:10000}")
+    private long retryBaseMillis;
+
+    @Value("${tracking.finish-tasks.lease-ms:300000}")
+    private long leaseMillis;
+
+    /*
+     * 종료 트랜잭션 안에서 후처리 작업 저장
+     * - 커밋 직후 바로 실행되므로 재시도 스케줄러는 lease 시간 이후에만 가져감
+     */
+    @Transactional
+    public void enqueue(TrackingFinishedEvent event) {
+        List<TrackingTaskType> types = new ArrayList<>();
+        if (event.hikingHistoryId() != null) {
+            types.add(TrackingTaskType.USER_STATS);
+            if (event.buildTrack()) {
+                types.add(TrackingTaskType.TRACK);
+            }
+        }
+        if ("FRIEND".equals(event.mode()) && event.opponentId() != null && event.recordId() != null) {
+            types.add(TrackingTaskType.BATTLE_HISTORY);
+        }
+        if (types.isEmpty()) {
+            return;
+        }
+
+        String payload = write(event);
+        LocalDateTime leaseUntil = LocalDateTime.now().plusNanos(leaseMillis * 1_000_000);
+        trackingTaskRepository.saveAll(types.stream()
+                                            .map(type -> TrackingTask.of(event.eventId(), type, payload, leaseUntil))
+                                            .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findTaskIds(String eventId) {
+        return trackingTaskRepository.findIdsByEventId(eventId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueTaskIds(int limit) {
+        return trackingTaskRepository.findDueTaskIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    // 재시도 전 작업 선점 (lease 시간 동안 다른 스케줄러가 가져가지 않음)
+    @Transactional
+    public boolean claim(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        return trackingTaskRepository.claim(taskId, now, now.plusNanos(leaseMillis * 1_000_000)) == 1;
+    }
+
+    @Transactional
+    public void handle(Long taskId) {
+        // 이미 완료되었거나 (FAILED 포함) 다른 곳에서 실행 중인 작업은 건너뜀
+        TrackingTask task = trackingTaskRepository.lockPending(taskId).orElse(null);
+        if (task == null) {
+            log.debug("트래킹 후처리 건너뜀 -> taskId : {}", taskId);
+            return;
+        }
+
+        TrackingFinishedEvent event = read(task.getPayload());
+        switch (task.getType()) {
+            case USER_STATS -> updateUserStats(event);
+            case BATTLE_HISTORY -> saveBattleHistory(event);
+            case TRACK -> buildTrack(event);
+        }
+
+        trackingTaskRepository.delete(task);
+    }
+
+    @Transactional
+    public void recordFailure(Long taskId, Exception e) {
+        trackingTaskRepository.findById(taskId).ifPresent(task -> {
+            long delay = Math.min(MAX_RETRY_DELAY_MILLIS, retryBaseMillis << Math.min(task.getAttempts(), 20));
+            task.fail(e.getClass().getSimpleName() + ": " + e.getMessage(),
+                    LocalDateTime.now().plusNanos(delay * 1_000_000), maxAttempts);
+
+            log.warn("트래킹 후처리 실패 -> taskId : {}, type : {}, attempts : {}, status : {}, error : {}",
+                    taskId, task.getType(), task.getAttempts(), task.getStatus(), e.getMessage());
+        });
+    }
+
+    // 경험치 및 거리 갱신
+    private void updateUserStats(TrackingFinishedEvent event) {
+        User user = userRepository.findById(event.userId()).orElseThrow(NotFoundException::new);
+        Mountain mountain = mountainRepository.findById(event.mountainId()).orElseThrow(NotFoundException::new);
+        userService.updateUserInfoAfterTracking(user, event.finalDistance(), mountain.getLevel());
+    }
+
+    // 나 VS 친구인 경우 대결 결과 저장
+    private void saveBattleHistory(TrackingFinishedEvent event) {
+        User user = userRepository.findById(event.userId()).orElseThrow(NotFoundException::new);
+        User opponent = userRepository.findById(event.opponentId()).orElseThrow(NotFoundException::new);
+        Mountain mountain = mountainRepository.findById(event.mountainId()).orElseThrow(NotFoundException::new);
+        battleHistoryService.saveBattleHistoryAfterTracking(user, opponent, mountain,
+                pathRepository.getReferenceById(event.pathId()), event.recordId(), event.finalTime());
+    }
+
+    /*
+     * 기록에 연결된 업로드 포인트로 압축 트랙 생성 (이미 있으면 건너뜀)
+     * - 행 단위 기록을 유지하지 않는 경우 트랙 저장 후 삭제
+     * - 트랙이 생기기 전에 행 단위 기록으로 채워진 상대 기록 캐시 무효화
+     */
+    private void buildTrack(TrackingFinishedEvent event) {
+        Integer historyId = event.hikingHistoryId();
+        if (hikingTrackRepository.existsById(historyId)) {
+            return;
+        }
+
+        List<BattleRecordsForTrackingResponseDto> records = hikingLiveRecordsRepository
+                .findByHikingHistoryIdOrderByTotalTimeAsc(historyId)
+                .stream()
+                .map(BattleRecordsForTrackingResponseDto::from)
+                .toList();
+
+        List<BattleRecordsForTrackingResponseDto> track = trackFilter.filter(event.mode(), records);
+        hikingTrackRepository.save(HikingTrack.of(hikingHistoryRepository.getReferenceById(historyId),
+                HikingTrackCodec.encode(track), track.size()));
+
+        if (!keepLiveRecordRows) {
+            hikingLiveRecordsRepository.deleteByHikingHistoryIdInBulk(historyId);
+        }
+        opponentTrackCache.evict(historyId);
+    }
+
+    private String write(TrackingFinishedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트래킹 종료 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private TrackingFinishedEvent read(String payload) {
+        try {
+            return objectMapper.readValue(payload, TrackingFinishedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트래킹 종료 이벤트 역직렬화 실패", e);
+        }
+    }
+}
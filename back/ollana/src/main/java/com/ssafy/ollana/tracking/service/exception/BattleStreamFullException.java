@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class BattleStreamFullException extends BusinessException {
+    public BattleStreamFullException() {
+        super("실시간 대결 연결이 많아 잠시 후 다시 시도해주세요.", "T-004");
+    }
+}
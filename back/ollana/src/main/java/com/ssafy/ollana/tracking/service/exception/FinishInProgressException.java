@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class FinishInProgressException extends BusinessException {
+    public FinishInProgressException() {
+        super("트래킹 종료 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", "T-005");
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class InvalidBattleException extends BusinessException {
+    public InvalidBattleException() {
+        super("대결 상대와 상대 기록 정보가 필요합니다.", "T-006");
+    }
+}
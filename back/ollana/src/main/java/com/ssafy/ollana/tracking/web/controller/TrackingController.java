@@ -1,5 +1,6 @@
 package com.ssafy.ollana.tracking.web.controller;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.Response;
 import com.ssafy.ollana.footprint.web.dto.response.TodayHikingResultResponseDto;
 import com.ssafy.ollana.mountain.persistent.entity.Level;
@@ -7,20 +8,30 @@ import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
 import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainChangedEvent;
 import com.ssafy.ollana.security.CustomUserDetails;
+import com.ssafy.ollana.tracking.service.RouteDetail;
+import com.ssafy.ollana.tracking.service.RouteEncoding;
+import com.ssafy.ollana.tracking.service.TrackingFinishIdempotency;
 import com.ssafy.ollana.tracking.service.TrackingService;
 import com.ssafy.ollana.tracking.web.dto.request.CoordinateDto;
 import com.ssafy.ollana.tracking.web.dto.request.CoordinateRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingFinishRequestDto;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingPointsRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingStartRequestDto;
 import com.ssafy.ollana.tracking.web.dto.response.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.geolatte.geom.V;
 import org.locationtech.jts.geom.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +43,7 @@ import java.util.Optional;
 public class TrackingController {
 
     private final TrackingService trackingService;
+    private final TrackingFinishIdempotency trackingFinishIdempotency;
 
     /*
      * 사용자 위치 인식 후 가장 가까운 산 반환
@@ -39,8 +51,10 @@ public class TrackingController {
     @GetMapping("/mountains/nearby")
     public ResponseEntity<Response<NearestMountainResponseDto>> getNearestMountain(
                                                         @RequestParam double lat,
-                                                        @RequestParam double lng) {
-        NearestMountainResponseDto response = trackingService.findNearestMountain(lat, lng);
+                                                        @RequestParam double lng,
+                                                        @RequestParam(defaultValue = "full") String detail,
+                                                        @RequestParam(defaultValue = "json") String encoding) {
+        NearestMountainResponseDto response = trackingService.findNearestMountain(lat, lng, RouteDetail.from(detail), RouteEncoding.from(encoding));
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -58,8 +72,10 @@ public class TrackingController {
      * 산 검색 결과 반환
      */
     @GetMapping("/search/list")
-    public ResponseEntity<Response<MountainSearchResponseDto>> getMountainSearchResults(@RequestParam String mtn) {
-        MountainSearchResponseDto response = trackingService.getMountainSearchResults(mtn);
+    public ResponseEntity<Response<MountainSearchResponseDto>> getMountainSearchResults(@RequestParam String mtn,
+                                                                                       @RequestParam(defaultValue = "full") String detail,
+                                                                                       @RequestParam(defaultValue = "json") String encoding) {
+        MountainSearchResponseDto response = trackingService.getMountainSearchResults(mtn, RouteDetail.from(detail), RouteEncoding.from(encoding));
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -67,8 +83,10 @@ public class TrackingController {
      * 산 리스트 중 특정 산 선택 시 결과 반환
      */
     @GetMapping("/search/mountain/{mountainId}")
-    public ResponseEntity<Response<MountainSearchListResponseDto>> getMountainSelectResult(@PathVariable Integer mountainId) {
-        MountainSearchListResponseDto response = trackingService.getMountainSelectResult(mountainId);
+    public ResponseEntity<Response<MountainSearchListResponseDto>> getMountainSelectResult(@PathVariable Integer mountainId,
+                                                                                           @RequestParam(defaultValue = "full") String detail,
+                                                                                           @RequestParam(defaultValue = "json") String encoding) {
+        MountainSearchListResponseDto response = trackingService.getMountainSelectResult(mountainId, RouteDetail.from(detail), RouteEncoding.from(encoding));
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -99,12 +117,20 @@ public class TrackingController {
      * 대결 상대의 등산 기록 조회
      */
     @GetMapping("/options")
-    public ResponseEntity<Response<OpponentRecordListDto>> getOpponentRecords(
+    public ResponseEntity<Response<?>> getOpponentRecords(
                                                         @AuthenticationPrincipal CustomUserDetails userDetails,
                                                         @RequestParam Integer mountainId,
                                                         @RequestParam Integer pathId,
-                                                        @RequestParam(required = false) Integer opponentId
+                                                        @RequestParam(required = false) Integer opponentId,
+                                                        @PageableDefault(size = 20) Pageable pageable,
+                                                        @RequestParam(required = false) String cursor
     ) {
+        // cursor 가 있으면 keyset 페이지네이션 (빈 문자열이면 첫 페이지)
+        if (cursor != null) {
+            CursorResponse<OpponentRecordDto> response = trackingService.findOpponentRecordsByCursor(userDetails.getUser().getId(), mountainId, pathId, opponentId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(Response.success(response));
+        }
+
         OpponentRecordListDto response = trackingService.findOpponentRecords(userDetails.getUser().getId(), mountainId, pathId, opponentId);
         return ResponseEntity.ok(Response.success(response));
     }
@@ -115,24 +141,59 @@ public class TrackingController {
      */
     @GetMapping("/start")
     public ResponseEntity<Response<TrackingStartResponseDto>> getTrackingStartInfo(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                                                                   @RequestBody TrackingStartRequestDto request) {
-        TrackingStartResponseDto response = trackingService.getTrackingStartInfo(userDetails.getUser().getId(), request);
+                                                                                   @RequestBody TrackingStartRequestDto request,
+                                                                                   @RequestParam(defaultValue = "json") String encoding) {
+        TrackingStartResponseDto response = trackingService.getTrackingStartInfo(userDetails.getUser().getId(), request, RouteEncoding.from(encoding));
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 트래킹 중 포인트 업로드
+     */
+    @PostMapping("/points")
+    public ResponseEntity<Response<TrackingProgressResponseDto>> appendTrackingPoints(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                      @RequestBody TrackingPointsRequestDto request) {
+        TrackingProgressResponseDto response = trackingService.appendTrackingPoints(userDetails.getUser().getId(), request);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 중단된 트래킹 이어하기 (after : 앱에 남아 있는 마지막 포인트 시간)
+     */
+    @GetMapping("/resume")
+    public ResponseEntity<Response<TrackingResumeResponseDto>> resumeTracking(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                              @RequestParam(required = false) Integer after) {
+        TrackingResumeResponseDto response = trackingService.resumeTracking(userDetails.getUser().getId(), after);
         return ResponseEntity.ok(Response.success(response));
     }
 
+    /*
+     * 대결 고스트 실시간 스트림 (SSE)
+     */
+    @GetMapping(value = "/battle/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter openBattleStream(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                       @RequestParam Integer mountainId,
+                                       @RequestParam Integer pathId) {
+        return trackingService.openBattleStream(userDetails.getUser().getId(), mountainId, pathId);
+    }
+
     /*
      * 트래킹 종료 요청
      */
     @PostMapping("/finish")
     public ResponseEntity<Response<TrackingFinishResponseDto>> manageTrackingFinish(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                                  @RequestBody TrackingFinishRequestDto request) {
-        TrackingFinishResponseDto response = trackingService.manageTrackingFinish(userDetails.getUser().getId(), request);
+        Integer userId = userDetails.getUser().getId();
+        TrackingFinishResponseDto response = trackingFinishIdempotency.execute(userId, idempotencyKey,
+                () -> trackingService.manageTrackingFinish(userId, request));
         return ResponseEntity.ok(Response.success(response));
     }
 
     //------------------------------------------------------------------------------------------------------------------------------
     private final MountainRepository mountainRepository;
     private final PathRepository pathRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
      * 테스트용 가상 등산로 좌표 저장 API
@@ -178,6 +239,7 @@ public class TrackingController {
                     .build();
 
             mountainRepository.save(mountain);
+            eventPublisher.publishEvent(new MountainChangedEvent(mountain.getId()));
         }
 
         log.info("싸피산 : Path 저장을 위해 LineString 생성 시작");
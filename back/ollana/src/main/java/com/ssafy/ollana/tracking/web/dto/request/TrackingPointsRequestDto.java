@@ -0,0 +1,15 @@
+package com.ssafy.ollana.tracking.web.dto.request;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TrackingPointsRequestDto {
+    private Integer mountainId;
+    private Integer pathId;
+    private List<BattleRecordsForTrackingResponseDto> records;
+}
@@ -0,0 +1,17 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BattleGhostEventDto {
+    private int time;               // 사용자 경과 시간 (초)
+    private double userDistance;
+    private double ghostDistance;   // 같은 경과 시간에서 상대의 누적 거리
+    private Double ghostLatitude;
+    private Double ghostLongitude;
+    private double distanceGap;     // 사용자 - 상대 (양수면 사용자가 앞섬)
+    private Integer timeGap;        // 같은 거리에 도달한 시각 차 (초, 양수면 사용자가 느림), 상대 기록 범위를 넘으면 null
+    private boolean ghostFinished;
+}
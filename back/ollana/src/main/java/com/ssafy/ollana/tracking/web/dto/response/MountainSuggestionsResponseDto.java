@@ -16,8 +16,12 @@ public class MountainSuggestionsResponseDto {
         List<MountainAutoCompleteResponseDto> dtos = mountains.stream()
                                                               .map(MountainAutoCompleteResponseDto::from)
                                                               .toList();
+        return of(dtos);
+    }
+
+    public static MountainSuggestionsResponseDto of(List<MountainAutoCompleteResponseDto> mountains) {
         return MountainSuggestionsResponseDto.builder()
-                                             .mountains(dtos)
+                                             .mountains(mountains)
                                              .build();
     }
 }
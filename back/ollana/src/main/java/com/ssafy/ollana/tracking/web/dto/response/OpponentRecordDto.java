@@ -1,23 +1,23 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Builder
 @Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class OpponentRecordDto {
     private Integer recordId;
     private LocalDate date;
     private int time;
 
-    public static OpponentRecordDto from(HikingHistory history) {
-        return OpponentRecordDto.builder()
-                                .recordId(history.getId())
-                                .date(history.getCreatedAt().toLocalDate())
-                                .time(history.getHikingTime())
-                                .build();
+    // Querydsl projection 용
+    public OpponentRecordDto(Integer recordId, LocalDateTime createdAt, int time) {
+        this(recordId, createdAt.toLocalDate(), time);
     }
 }
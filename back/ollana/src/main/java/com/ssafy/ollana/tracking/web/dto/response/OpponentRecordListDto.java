@@ -1,6 +1,5 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,12 +10,9 @@ import java.util.List;
 public class OpponentRecordListDto {
     private List<OpponentRecordDto> records;
 
-    public static OpponentRecordListDto from(List<HikingHistory> histories) {
-        List<OpponentRecordDto> dtos = histories.stream()
-                                                .map(OpponentRecordDto::from)
-                                                .toList();
+    public static OpponentRecordListDto of(List<OpponentRecordDto> records) {
         return OpponentRecordListDto.builder()
-                                    .records(dtos)
+                                    .records(records)
                                     .build();
     }
 }
@@ -1,11 +1,13 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.service.HikingTrackCodec;
 import com.ssafy.ollana.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Base64;
 import java.util.List;
 
 @Getter
@@ -15,17 +17,28 @@ public class OpponentResponseDto {
     private String nickname;
     private Integer maxHeartRate;
     private Double averageHeartRate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<BattleRecordsForTrackingResponseDto> records;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedRecords;  // HikingTrackCodec 바이너리 (Base64)
 
-    public static OpponentResponseDto from(User opponent, HikingHistory hikingHistory, List<HikingLiveRecords> records) {
+    public static OpponentResponseDto from(User opponent, HikingHistory hikingHistory, List<BattleRecordsForTrackingResponseDto> records) {
         return OpponentResponseDto.builder()
                 .opponentId(opponent.getId())
                 .nickname(opponent.getNickname())
                 .averageHeartRate(hikingHistory != null ? hikingHistory.getAverageHeartRate() : null)
                 .maxHeartRate(hikingHistory != null ? hikingHistory.getMaxHeartRate() : null)
-                .records(records.stream()
-                        .map(BattleRecordsForTrackingResponseDto::from)
-                        .toList())
+                .records(records)
+                .build();
+    }
+
+    public static OpponentResponseDto encoded(User opponent, HikingHistory hikingHistory, List<BattleRecordsForTrackingResponseDto> records) {
+        return OpponentResponseDto.builder()
+                .opponentId(opponent.getId())
+                .nickname(opponent.getNickname())
+                .averageHeartRate(hikingHistory != null ? hikingHistory.getAverageHeartRate() : null)
+                .maxHeartRate(hikingHistory != null ? hikingHistory.getMaxHeartRate() : null)
+                .encodedRecords(Base64.getEncoder().encodeToString(HikingTrackCodec.encode(records)))
                 .build();
     }
 
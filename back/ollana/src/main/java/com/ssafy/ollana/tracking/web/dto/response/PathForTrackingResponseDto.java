@@ -1,9 +1,12 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.tracking.service.PolylineEncoder;
 import com.ssafy.ollana.tracking.service.TrackingUtils;
 import lombok.Builder;
 import lombok.Getter;
+import org.locationtech.jts.geom.LineString;
 
 import java.util.List;
 
@@ -14,15 +17,38 @@ public class PathForTrackingResponseDto {
     private String pathName;
     private Double pathLength;
     private String pathTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<LatLngPointResponseDto> route;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedRoute;    // Google encoded polyline
 
-    public static PathForTrackingResponseDto from(Path path) {
+    public static PathForTrackingResponseDto from(Path path, LineString route) {
+        return from(path.getId(), path.getPathName(), path.getPathLength(), path.getPathTime(), route);
+    }
+
+    public static PathForTrackingResponseDto from(Integer pathId, String pathName, Double pathLength, String pathTime,
+                                                  LineString route) {
+        return PathForTrackingResponseDto.builder()
+                .pathId(pathId)
+                .pathName(pathName)
+                .pathLength(pathLength)
+                .pathTime(pathTime)
+                .route(TrackingUtils.convertLineStringToLatLng(route))
+                .build();
+    }
+
+    public static PathForTrackingResponseDto encoded(Path path, LineString route) {
+        return encoded(path.getId(), path.getPathName(), path.getPathLength(), path.getPathTime(), route);
+    }
+
+    public static PathForTrackingResponseDto encoded(Integer pathId, String pathName, Double pathLength, String pathTime,
+                                                     LineString route) {
         return PathForTrackingResponseDto.builder()
-                .pathId(path.getId())
-                .pathName(path.getPathName())
-                .pathLength(path.getPathLength())
-                .pathTime(path.getPathTime())
-                .route(TrackingUtils.convertLineStringToLatLng(path.getRoute()))
+                .pathId(pathId)
+                .pathName(pathName)
+                .pathLength(pathLength)
+                .pathTime(pathTime)
+                .encodedRoute(PolylineEncoder.encode(route))
                 .build();
     }
 
@@ -1,10 +1,15 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class TrackingFinishResponseDto {
     private String badge;
     private Double averageHeartRate;
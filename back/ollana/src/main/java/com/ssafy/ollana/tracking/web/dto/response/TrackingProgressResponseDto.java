@@ -0,0 +1,18 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrackingProgressResponseDto {
+    private Integer pathId;
+    private double progress;            // 진행률 (%)
+    private double distanceAlong;       // 등산로 시작점부터 이동한 거리 (m)
+    private double remainingDistance;   // 남은 거리 (m)
+    private Double offRouteDistance;    // 등산로와의 거리 (m), 탐색 범위 밖이면 null
+    private boolean onRoute;
+    private Integer etaSeconds;         // 도착 예상 시간 (초), 속도를 알 수 없으면 null
+    private Double snappedLatitude;     // 등산로 위로 보정한 위치
+    private Double snappedLongitude;
+}
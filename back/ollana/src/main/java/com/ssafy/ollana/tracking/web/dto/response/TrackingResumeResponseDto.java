@@ -0,0 +1,37 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import com.ssafy.ollana.tracking.service.TrackingSessionStore;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TrackingResumeResponseDto {
+    private Integer mountainId;
+    private Integer pathId;
+    private String mode;
+    private Integer recordId;
+    private Long startedAt;           // 트래킹 시작 시각 (epoch ms)
+    private Integer lastPointTime;    // 서버에 저장된 마지막 포인트 시간 (없으면 null)
+    private int pointCount;
+    private List<BattleRecordsForTrackingResponseDto> records;
+    private TrackingProgressResponseDto progress;
+
+    public static TrackingResumeResponseDto of(TrackingSessionStore.TrackingSession session,
+                                               List<BattleRecordsForTrackingResponseDto> records,
+                                               TrackingProgressResponseDto progress) {
+        return TrackingResumeResponseDto.builder()
+                                        .mountainId(session.mountainId())
+                                        .pathId(session.pathId())
+                                        .mode(session.mode())
+                                        .recordId(session.recordId())
+                                        .startedAt(session.startedAt())
+                                        .lastPointTime(session.lastPointTime())
+                                        .pointCount(session.pointCount())
+                                        .records(records)
+                                        .progress(progress)
+                                        .build();
+    }
+}
@@ -2,7 +2,6 @@ package com.ssafy.ollana.tracking.web.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
-import com.ssafy.ollana.mountain.persistent.entity.Path;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,12 +20,12 @@ public class TrackingStartResponseDto {
 
     public static TrackingStartResponseDto from(boolean isNearby,
                                                 Mountain mountain,
-                                                Path path,
+                                                PathForTrackingResponseDto path,
                                                 OpponentResponseDto opponent) {
         return TrackingStartResponseDto.builder()
                 .isNearby(isNearby)
                 .mountain(MountainLocationResponseDto.from(mountain))
-                .path(PathForTrackingResponseDto.from(path))
+                .path(path)
                 .opponent(opponent)
                 .build();
     }
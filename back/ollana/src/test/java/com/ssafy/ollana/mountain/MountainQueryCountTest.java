@@ -0,0 +1,192 @@
+package com.ssafy.ollana.mountain;
+
+import com.ssafy.ollana.common.config.AsyncConfig;
+import com.ssafy.ollana.common.config.QueryDslConfig;
+import com.ssafy.ollana.mountain.persistent.entity.Level;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.MountainImg;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathSimplifiedRouteRepository;
+import com.ssafy.ollana.mountain.service.MountainImgHarvester;
+import com.ssafy.ollana.mountain.service.MountainServiceImpl;
+import com.ssafy.ollana.mountain.service.MountainWeatherService;
+import com.ssafy.ollana.tracking.service.OpponentTrackCache;
+import com.ssafy.ollana.tracking.service.PathRouteService;
+import com.ssafy.ollana.tracking.service.RouteDetail;
+import com.ssafy.ollana.tracking.service.RouteEncoding;
+import com.ssafy.ollana.tracking.web.dto.response.PathForTrackingResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 산 목록/검색 조회가 결과 개수와 관계없이 일정한 개수의 SQL 만 실행하는지 검증
+ * - 산 여러 개 (각각 등산로 / 이미지 여러 개) 를 직접 넣고 Hibernate Statistics 로 실행된 SQL 수를 셈
+ * - geometry 컬럼 / ST_Simplify 를 쓰므로 PostGIS 가 설치된 PostgreSQL 필요 (TEST_DB_URL, 기본 localhost 의 ollana_test)
+ * - 테스트 트랜잭션은 롤백되므로 데이터는 남지 않음
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${TEST_DB_URL:jdbc:postgresql://localhost:5432/ollana_test}",
+        "spring.datasource.username=${TEST_DB_USERNAME:postgres}",
+        "spring.datasource.password=${TEST_DB_PASSWORD:postgres}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, MountainServiceImpl.class, PathRouteService.class})
+class MountainQueryCountTest {
+
+    private static final int MOUNTAIN_COUNT = 5;
+    private static final int PATHS_PER_MOUNTAIN = 3;
+    private static final int IMAGES_PER_MOUNTAIN = 2;
+
+    // 시드 데이터의 산 이름은 모두 "산" 을 포함
+    private static final String KEYWORD = "산";
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @MockitoBean
+    private MountainWeatherService mountainWeatherService;
+
+    @MockitoBean
+    private MountainImgHarvester mountainImgHarvester;
+
+    // HikingHistory 엔티티 리스너 의존성
+    @MockitoBean
+    private OpponentTrackCache opponentTrackCache;
+
+    @MockitoBean(name = AsyncConfig.MOUNTAIN_DETAIL_EXECUTOR)
+    private ThreadPoolTaskExecutor detailExecutor;
+
+    @Autowired
+    private MountainServiceImpl mountainService;
+
+    @Autowired
+    private PathRouteService pathRouteService;
+
+    @Autowired
+    private MountainRepository mountainRepository;
+
+    @Autowired
+    private PathSimplifiedRouteRepository pathSimplifiedRouteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void searchMountain_loadsMountainsAndImagesInOneQuery() {
+        var result = mountainService.searchMountain(KEYWORD);
+
+        assertThat(result).hasSize(MOUNTAIN_COUNT);
+        assertThat(result).allSatisfy(mountain -> assertThat(mountain.getImages()).hasSize(IMAGES_PER_MOUNTAIN));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getMountainList_doesNotLoadImagesPerMountain() {
+        var result = mountainService.getMountainList(0, 100);
+
+        // 페이지 조회 + 이미지 batch 조회 (전체가 한 페이지에 들어오면 count 는 생략됨)
+        assertThat(result.getTotalElements()).isEqualTo(MOUNTAIN_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getMountainSearchResults_loadsPathsInOneQuery() {
+        // TrackingService.getMountainSearchResults 와 같은 순서 : 산 조회 + 등산로(단순화 경로 포함) 조회
+        List<Integer> mountainIds = mountainRepository.findByMountainNameContaining(KEYWORD).stream()
+                .map(Mountain::getId)
+                .toList();
+        Map<Integer, List<PathForTrackingResponseDto>> paths =
+                pathRouteService.getPathsByMountain(mountainIds, RouteDetail.LOW, RouteEncoding.JSON);
+
+        assertThat(paths).hasSize(MOUNTAIN_COUNT);
+        assertThat(paths.values()).allSatisfy(list -> assertThat(list).hasSize(PATHS_PER_MOUNTAIN));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void seed() {
+        for (int m = 0; m < MOUNTAIN_COUNT; m++) {
+            double lat = 37.5 + m * 0.1;
+            double lng = 127.0 + m * 0.1;
+            Mountain mountain = entityManager.persist(Mountain.builder()
+                    .mntnCode("TEST" + m)
+                    .mountainName("테스트" + m + "산")
+                    .mountainLoc("서울")
+                    .mountainHeight(500 + m)
+                    .mountainDescription("")
+                    .level(Level.M)
+                    .mountainLatitude(lat)
+                    .mountainLongitude(lng)
+                    .geom(GEOMETRY_FACTORY.createPoint(new Coordinate(lng, lat)))
+                    .build());
+
+            for (int i = 0; i < IMAGES_PER_MOUNTAIN; i++) {
+                entityManager.persist(MountainImg.builder()
+                        .mountain(mountain)
+                        .image("test/" + m + "/" + i + ".jpg")
+                        .build());
+            }
+
+            for (int p = 0; p < PATHS_PER_MOUNTAIN; p++) {
+                LineString route = route(lat + p * 0.01, lng);
+                entityManager.persist(Path.builder()
+                        .mountain(mountain)
+                        .pathName("테스트" + m + "-" + p + " 코스")
+                        .pathLength(route.getLength())
+                        .pathTime("60")
+                        .centerPoint(route.getCentroid())
+                        .route(route)
+                        .level(Level.M)
+                        .build());
+            }
+        }
+        entityManager.flush();
+
+        pathSimplifiedRouteRepository.refreshAll(RouteDetail.LOW.getTolerance(), RouteDetail.MID.getTolerance());
+        entityManager.clear();
+    }
+
+    // 단순화로 점이 줄어들 수 있도록 조금씩 흔들리는 경로
+    private static LineString route(double lat, double lng) {
+        Coordinate[] coordinates = new Coordinate[50];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lng + i * 0.0002, lat + (i % 2) * 0.00001);
+        }
+        return GEOMETRY_FACTORY.createLineString(coordinates);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.ollana.mountain;
+
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.service.MountainWeatherService;
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 로컬 stub 서버로 날씨 캐시 / 동시 요청 병합 / timeout 동작 검증
+ */
+class MountainWeatherServiceTest {
+
+    private static final String BODY = """
+            {"lat":37.6,"lon":126.9,"timezone":"Asia/Seoul","timezone_offset":32400,
+             "daily":[{"dt":1700000000,"sunrise":1699999000,"sunset":1700030000,
+                       "temp":{"min":1.0,"max":9.0},"wind_speed":2.5,"pop":0.1,
+                       "weather":[{"id":800,"main":"Clear","description":"clear sky","icon":"01d"}]}]}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long delayMillis = 200;
+
+    private ThreadPoolTaskExecutor fetchExecutor;
+    private MountainWeatherService weatherService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/data/3.0/onecall", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        fetchExecutor = new ThreadPoolTaskExecutor();
+        fetchExecutor.setThreadNamePrefix("weather-fetch-test-");
+        fetchExecutor.setCorePoolSize(4);
+        fetchExecutor.initialize();
+
+        weatherService = new MountainWeatherService(RestClient.builder(), fetchExecutor);
+        ReflectionTestUtils.setField(weatherService, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(weatherService, "apiKey", "test");
+        ReflectionTestUtils.setField(weatherService, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(weatherService, "staleMillis", 120_000L);
+        ReflectionTestUtils.setField(weatherService, "timeoutMillis", 1000);
+        ReflectionTestUtils.setField(weatherService, "failureThreshold", 5);
+        ReflectionTestUtils.setField(weatherService, "openMillis", 30_000L);
+        weatherService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void getWeather_concurrentRequestsShareOneUpstreamCall() throws Exception {
+        Mountain mountain = mountain(1);
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+
+        List<Future<MountainWeatherDto>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(callers.submit((Callable<MountainWeatherDto>) () -> weatherService.getWeather(mountain)));
+        }
+        for (Future<MountainWeatherDto> result : results) {
+            assertThat(result.get()).isNotNull();
+        }
+        callers.shutdown();
+
+        // 캐시된 이후 요청은 외부 호출 없음
+        assertThat(weatherService.getWeather(mountain).getSunrise()).isNotBlank();
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getWeather_returnsNullWhenUpstreamIsSlow() {
+        delayMillis = 3000;
+
+        assertThat(weatherService.getWeather(mountain(2))).isNull();
+    }
+
+    private Mountain mountain(int id) {
+        return Mountain.builder()
+                       .id(id)
+                       .mountainLatitude(37.6)
+                       .mountainLongitude(126.9)
+                       .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.HeartRateStats;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 백분위 / 구간별 시간 / drift 계산과 누적 상태 저장 -> 복원 검증
+ * - 구간 하한 (최대 심박 190 기준) : 95 / 114 / 133 / 152 / 171
+ */
+class HeartRateStatsTest {
+
+    @Test
+    void percentile_readsRankFromHistogram() {
+        // 101 ~ 200 bpm 한 번씩
+        HeartRateStats stats = new HeartRateStats();
+        for (int i = 0; i < 100; i++) {
+            stats.add(i * 10, 101 + i);
+        }
+
+        assertThat(stats.getCount()).isEqualTo(100);
+        assertThat(stats.getMin()).isEqualTo(101);
+        assertThat(stats.getMax()).isEqualTo(200);
+        assertThat(stats.getAverage()).isCloseTo(150.5, within(1e-9));
+        assertThat(stats.percentile(50)).isEqualTo(150);
+        assertThat(stats.percentile(90)).isEqualTo(190);
+        assertThat(stats.percentile(0)).isEqualTo(101);
+        assertThat(stats.percentile(100)).isEqualTo(200);
+    }
+
+    @Test
+    void zoneSeconds_creditsPreviousZoneWithCappedGap() {
+        HeartRateStats stats = new HeartRateStats();
+        stats.add(0, 100);      // zone 1
+        stats.add(10, 120);     // zone 1 에 10초
+        stats.add(70, 140);     // zone 2 에 60초 -> 공백 30초까지만
+        stats.add(80, 0);       // 미측정 -> 무시
+        stats.add(90, 80);      // zone 3 에 20초, 80 bpm 은 구간 밖
+        stats.add(100, 180);    // 구간 밖이었으므로 더하지 않음
+
+        assertThat(stats.getZoneSeconds(1)).isEqualTo(10);
+        assertThat(stats.getZoneSeconds(2)).isEqualTo(30);
+        assertThat(stats.getZoneSeconds(3)).isEqualTo(20);
+        assertThat(stats.getZoneSeconds(4)).isZero();
+        assertThat(stats.getZoneSeconds(5)).isZero();
+        assertThat(stats.getCount()).isEqualTo(5);
+    }
+
+    @Test
+    void drift_isLeastSquaresSlopePerHour() {
+        // 30분마다 6 bpm 상승 -> 12 bpm/시간, 시간 축에 대칭으로 흔들리면 기울기 유지
+        HeartRateStats stats = new HeartRateStats();
+        stats.add(0, 100);
+        stats.add(1800, 106);
+        stats.add(3600, 112);
+        assertThat(stats.getDrift()).isCloseTo(12, within(1e-9));
+
+        HeartRateStats noisy = new HeartRateStats();
+        int[] offsets = {3, -3, -3, 3};
+        for (int i = 0; i < 4; i++) {
+            noisy.add(i * 1800, 100 + i * 6 + offsets[i]);
+        }
+        assertThat(noisy.getDrift()).isCloseTo(12, within(1e-9));
+
+        HeartRateStats single = new HeartRateStats();
+        single.add(0, 120);
+        assertThat(single.getDrift()).isZero();
+    }
+
+    @Test
+    void fromBytes_continuesAccumulationAcrossCheckpoints() {
+        HeartRateStats whole = new HeartRateStats();
+        HeartRateStats partial = new HeartRateStats();
+        for (int i = 0; i < 200; i++) {
+            int time = i * 7;
+            int heartRate = 90 + (i * 37) % 90;
+            whole.add(time, heartRate);
+            partial.add(time, heartRate);
+
+            // 업로드마다 저장 -> 복원
+            if (i % 50 == 49) {
+                partial = HeartRateStats.fromBytes(partial.toBytes());
+            }
+        }
+
+        assertThat(partial.getCount()).isEqualTo(whole.getCount());
+        assertThat(partial.getMin()).isEqualTo(whole.getMin());
+        assertThat(partial.getMax()).isEqualTo(whole.getMax());
+        assertThat(partial.getAverage()).isEqualTo(whole.getAverage());
+        assertThat(partial.percentile(50)).isEqualTo(whole.percentile(50));
+        assertThat(partial.percentile(90)).isEqualTo(whole.percentile(90));
+        for (int zone = 1; zone <= HeartRateStats.ZONE_COUNT; zone++) {
+            assertThat(partial.getZoneSeconds(zone)).isEqualTo(whole.getZoneSeconds(zone));
+        }
+        assertThat(partial.getDrift()).isEqualTo(whole.getDrift());
+    }
+
+    @Test
+    void fromBytes_handlesEmptyStateAndRejectsUnknownVersion() {
+        HeartRateStats empty = HeartRateStats.fromBytes(null);
+        assertThat(empty.getCount()).isZero();
+        assertThat(empty.getMin()).isZero();
+        assertThat(empty.percentile(50)).isZero();
+        assertThat(HeartRateStats.fromBytes(new HeartRateStats().toBytes()).getCount()).isZero();
+
+        byte[] state = new HeartRateStats().toBytes();
+        state[0] = HeartRateStats.STATE_VERSION + 1;
+        assertThatThrownBy(() -> HeartRateStats.fromBytes(state)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
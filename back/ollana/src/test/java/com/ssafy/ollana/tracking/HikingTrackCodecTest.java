@@ -0,0 +1,88 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.HikingTrackCodec;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 인코딩 -> 디코딩 왕복 검증
+ * - 시간 / 심박은 그대로, 거리는 cm, 좌표는 1e-6 도 단위로 반올림되므로 절반 단위까지 오차 허용
+ * - 좌표가 없는 행(위도 / 경도 중 하나라도 null)은 둘 다 null 로 복원
+ */
+class HikingTrackCodecTest {
+
+    private static final double DISTANCE_TOLERANCE = 0.005;
+    private static final double COORDINATE_TOLERANCE = 5e-7;
+
+    @Test
+    void decode_restoresRecordsWithinQuantization() {
+        List<BattleRecordsForTrackingResponseDto> records = fixture();
+
+        List<BattleRecordsForTrackingResponseDto> decoded = HikingTrackCodec.decode(HikingTrackCodec.encode(records));
+
+        assertThat(decoded).hasSameSizeAs(records);
+        for (int i = 0; i < records.size(); i++) {
+            BattleRecordsForTrackingResponseDto expected = records.get(i);
+            BattleRecordsForTrackingResponseDto actual = decoded.get(i);
+
+            assertThat(actual.getTime()).isEqualTo(expected.getTime());
+            assertThat(actual.getHeartRate()).isEqualTo(expected.getHeartRate());
+            assertThat(actual.getDistance()).isCloseTo(expected.getDistance(), within(DISTANCE_TOLERANCE));
+
+            if (expected.getLatitude() == null || expected.getLongitude() == null) {
+                assertThat(actual.getLatitude()).isNull();
+                assertThat(actual.getLongitude()).isNull();
+            } else {
+                assertThat(actual.getLatitude()).isCloseTo(expected.getLatitude(), within(COORDINATE_TOLERANCE));
+                assertThat(actual.getLongitude()).isCloseTo(expected.getLongitude(), within(COORDINATE_TOLERANCE));
+            }
+        }
+    }
+
+    @Test
+    void decode_handlesEmptyTrackAndRejectsUnknownVersion() {
+        assertThat(HikingTrackCodec.decode(HikingTrackCodec.encode(List.of()))).isEmpty();
+
+        byte[] data = HikingTrackCodec.encode(fixture());
+        data[0] = HikingTrackCodec.VERSION + 1;
+        assertThatThrownBy(() -> HikingTrackCodec.decode(data)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 비트맵이 여러 바이트에 걸치도록 21개, 시간 역순 / 거리 감소 / 심박 0 / 좌표 누락 포함
+    private static List<BattleRecordsForTrackingResponseDto> fixture() {
+        Random random = new Random(7);
+        List<BattleRecordsForTrackingResponseDto> records = new ArrayList<>();
+        double distance = 0;
+
+        for (int i = 0; i < 21; i++) {
+            distance += random.nextDouble() * 12 - 2;
+            Double latitude = 37.5 + random.nextDouble() * 0.01;
+            Double longitude = 127.0 + random.nextDouble() * 0.01;
+            if (i == 0 || i == 9) {
+                latitude = null;
+                longitude = null;
+            } else if (i == 13) {
+                longitude = null;
+            } else if (i == 17) {
+                latitude = null;
+            }
+
+            records.add(BattleRecordsForTrackingResponseDto.builder()
+                                                           .time(i == 5 ? 3 : i * 5)
+                                                           .distance(distance)
+                                                           .heartRate(i == 7 ? 0 : 90 + random.nextInt(60))
+                                                           .latitude(latitude)
+                                                           .longitude(longitude)
+                                                           .build());
+        }
+        return records;
+    }
+}
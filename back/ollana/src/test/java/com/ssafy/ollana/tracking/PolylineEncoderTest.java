@@ -0,0 +1,40 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.PolylineEncoder;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Google encoded polyline 알고리즘 문서의 예시와 같은 결과인지 검증
+ * https://developers.google.com/maps/documentation/utilities/polylinealgorithm
+ */
+class PolylineEncoderTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    @Test
+    void encode_matchesDocumentedExample() {
+        // (위도, 경도) : (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)
+        LineString route = line(new Coordinate(-120.2, 38.5),
+                                new Coordinate(-120.95, 40.7),
+                                new Coordinate(-126.453, 43.252));
+
+        assertThat(PolylineEncoder.encode(route)).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    void encode_roundsNegativeValuesLikeDocumentedExample() {
+        // 문서의 단일 값 예시 -179.9832104 -> "`~oia@", 경도 0 -> "?"
+        LineString route = line(new Coordinate(0, -179.9832104), new Coordinate(0, -179.9832104));
+
+        assertThat(PolylineEncoder.encode(route)).isEqualTo("`~oia@???");
+    }
+
+    private static LineString line(Coordinate... coordinates) {
+        return GEOMETRY_FACTORY.createLineString(coordinates);
+    }
+}
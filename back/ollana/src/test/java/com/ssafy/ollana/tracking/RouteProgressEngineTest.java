@@ -0,0 +1,158 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.RouteProgressEngine;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingProgressResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 직선 등산로(북쪽 1000m)와 되돌아오는 등산로(북쪽 500m -> 동쪽 20m -> 남쪽 500m)로
+ * 투영 / 이탈 판단 / 역방향 가중치 / ETA(EMA) 검증
+ * - 좌표는 (북쪽 m, 동쪽 m) 로 만들고, 거리는 하버사인 기준이라 1% 오차 허용
+ */
+class RouteProgressEngineTest {
+
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LNG = 127.0;
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private static final LineString STRAIGHT = route(new double[][]{{0, 0}, {1000, 0}});
+    private static final LineString HAIRPIN = route(new double[][]{{0, 0}, {500, 0}, {500, 20}, {0, 20}});
+
+    private RouteProgressEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new RouteProgressEngine();
+    }
+
+    @Test
+    void update_snapsPointOntoNearestSegment() {
+        TrackingProgressResponseDto progress = engine.update(1, 1, () -> STRAIGHT, List.of(point(0, 400, 30)));
+
+        assertThat(progress.isOnRoute()).isTrue();
+        assertThat(progress.getDistanceAlong()).isCloseTo(400, within(4.0));
+        assertThat(progress.getOffRouteDistance()).isCloseTo(30, within(0.5));
+        assertThat(progress.getProgress()).isCloseTo(40, within(0.5));
+        assertThat(progress.getSnappedLongitude()).isCloseTo(BASE_LNG, within(1e-9));
+    }
+
+    @Test
+    void update_treatsPointsBeyondSearchRangeAsOffRoute() {
+        // 첫 포인트부터 2km 이탈 -> 진행 위치를 만들지 않음
+        TrackingProgressResponseDto first = engine.update(1, 1, () -> STRAIGHT, List.of(point(0, 100, 2000)));
+        assertThat(first.isOnRoute()).isFalse();
+        assertThat(first.getOffRouteDistance()).isNull();
+        assertThat(first.getDistanceAlong()).isZero();
+        assertThat(first.getEtaSeconds()).isNull();
+        assertThat(first.getSnappedLatitude()).isNull();
+
+        TrackingProgressResponseDto onRoute = engine.update(1, 1, () -> STRAIGHT, List.of(point(100, 100, 0)));
+        assertThat(onRoute.isOnRoute()).isTrue();
+        assertThat(onRoute.getDistanceAlong()).isCloseTo(100, within(1.0));
+
+        // 150m 이탈은 거리 표시, 2km 이탈은 거리 모름 / 두 경우 모두 위치는 유지
+        TrackingProgressResponseDto near = engine.update(1, 1, () -> STRAIGHT, List.of(point(200, 300, 150)));
+        assertThat(near.isOnRoute()).isFalse();
+        assertThat(near.getOffRouteDistance()).isCloseTo(150, within(1.0));
+        assertThat(near.getDistanceAlong()).isCloseTo(100, within(1.0));
+
+        TrackingProgressResponseDto far = engine.update(1, 1, () -> STRAIGHT, List.of(point(300, 300, 2000)));
+        assertThat(far.isOnRoute()).isFalse();
+        assertThat(far.getOffRouteDistance()).isNull();
+        assertThat(far.getDistanceAlong()).isCloseTo(100, within(1.0));
+    }
+
+    @Test
+    void update_keepsLastSnapWhenBatchHasNoLocation() {
+        // 위치 없는 포인트만 온 경우 직전 포인트 기준 상태 유지 (등산로 위 / 이탈 모두)
+        engine.update(1, 1, () -> STRAIGHT, List.of(point(0, 400, 30)));
+        TrackingProgressResponseDto onRoute = engine.update(1, 1, () -> STRAIGHT, List.of(unlocated(10)));
+        assertThat(onRoute.isOnRoute()).isTrue();
+        assertThat(onRoute.getOffRouteDistance()).isCloseTo(30, within(0.5));
+        assertThat(onRoute.getSnappedLatitude()).isCloseTo(lat(400), within(1e-6));
+
+        engine.update(1, 1, () -> STRAIGHT, List.of(point(20, 500, 150)));
+        TrackingProgressResponseDto offRoute = engine.update(1, 1, () -> STRAIGHT, List.of(unlocated(30)));
+        assertThat(offRoute.isOnRoute()).isFalse();
+        assertThat(offRoute.getOffRouteDistance()).isCloseTo(150, within(1.0));
+        assertThat(offRoute.getDistanceAlong()).isCloseTo(400, within(4.0));
+
+        // 상태가 없으면 응답하지 않음
+        assertThat(engine.update(2, 1, () -> STRAIGHT, List.of(unlocated(10)))).isNull();
+    }
+
+    @Test
+    void update_penalizesSnappingBackToEarlierLeg() {
+        // 돌아오는 구간(동쪽 20m) 을 내려오던 중 첫 구간 쪽으로 치우친 포인트
+        engine.update(1, 2, () -> HAIRPIN, List.of(
+                point(0, 0, 0),
+                point(100, 250, 0),
+                point(200, 500, 0),
+                point(220, 500, 20),
+                point(300, 400, 20),
+                point(350, 300, 20)));
+        TrackingProgressResponseDto progress = engine.update(1, 2, () -> HAIRPIN, List.of(point(360, 290, 8)));
+
+        assertThat(progress.getDistanceAlong()).isCloseTo(730, within(8.0));
+        assertThat(progress.getOffRouteDistance()).isCloseTo(12, within(0.5));
+
+        // 이전 위치가 없으면 가장 가까운 첫 구간으로 투영
+        TrackingProgressResponseDto fresh = engine.update(2, 2, () -> HAIRPIN, List.of(point(360, 290, 8)));
+        assertThat(fresh.getDistanceAlong()).isCloseTo(290, within(3.0));
+    }
+
+    @Test
+    void update_estimatesArrivalWithSmoothedSpeed() {
+        // 0 -> 60초 1m/s, 60 -> 120초 2m/s : 속도 1 + 0.3 * (2 - 1) = 1.3m/s, 남은 거리 820m
+        TrackingProgressResponseDto progress = engine.update(1, 1, () -> STRAIGHT, List.of(
+                point(0, 0, 0),
+                point(60, 60, 0),
+                point(120, 180, 0)));
+
+        assertThat(progress.getEtaSeconds()).isCloseTo(631, within(1));
+
+        engine.reset(1);
+        TrackingProgressResponseDto restarted = engine.update(1, 1, () -> STRAIGHT, List.of(point(10, 10, 0)));
+        assertThat(restarted.getEtaSeconds()).isNull();
+    }
+
+    private static BattleRecordsForTrackingResponseDto point(int time, double north, double east) {
+        return BattleRecordsForTrackingResponseDto.builder()
+                                                  .time(time)
+                                                  .latitude(lat(north))
+                                                  .longitude(lng(east))
+                                                  .build();
+    }
+
+    private static BattleRecordsForTrackingResponseDto unlocated(int time) {
+        return BattleRecordsForTrackingResponseDto.builder()
+                                                  .time(time)
+                                                  .build();
+    }
+
+    private static LineString route(double[][] points) {
+        Coordinate[] coordinates = new Coordinate[points.length];
+        for (int i = 0; i < points.length; i++) {
+            coordinates[i] = new Coordinate(lng(points[i][1]), lat(points[i][0]));
+        }
+        return new GeometryFactory().createLineString(coordinates);
+    }
+
+    private static double lat(double north) {
+        return BASE_LAT + north / METERS_PER_DEGREE;
+    }
+
+    private static double lng(double east) {
+        return BASE_LNG + east / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT)));
+    }
+}
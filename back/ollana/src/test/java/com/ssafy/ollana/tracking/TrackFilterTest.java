@@ -0,0 +1,150 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.TrackFilter;
+import com.ssafy.ollana.tracking.service.TrackingUtils;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 1초 간격 기록 (북쪽 300초 -> 정지 120초 -> 동쪽 180초, 1.2m/s, 좌표 오차 ±2m, GPS 튐 1회) 으로
+ * 튐 제거 / 솎아내기 후 총 시간 / 거리 보존과 경로 길이 오차 검증
+ * - 첫 측위가 2km 튄 경우에도 이후 포인트가 걸러지지 않는지 검증
+ */
+class TrackFilterTest {
+
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LNG = 127.0;
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final double SPEED = 1.2;
+    private static final double TRUE_LENGTH = (300 + 180) * SPEED;
+
+    private TrackFilter trackFilter;
+
+    @BeforeEach
+    void setUp() {
+        trackFilter = new TrackFilter();
+        ReflectionTestUtils.setField(trackFilter, "enabled", true);
+        ReflectionTestUtils.setField(trackFilter, "maxSpeed", 7.0);
+        ReflectionTestUtils.setField(trackFilter, "minDistance", 10.0);
+        ReflectionTestUtils.setField(trackFilter, "battleMinDistance", 5.0);
+        ReflectionTestUtils.setField(trackFilter, "bearingChange", 25.0);
+        ReflectionTestUtils.setField(trackFilter, "heartRateChange", 8);
+        ReflectionTestUtils.setField(trackFilter, "maxGap", 60);
+        ReflectionTestUtils.setField(trackFilter, "battleMaxGap", 30);
+    }
+
+    @Test
+    void filter_keepsEndpointsAndBoundsPathLengthError() {
+        List<BattleRecordsForTrackingResponseDto> records = fixture();
+
+        List<BattleRecordsForTrackingResponseDto> filtered = trackFilter.filter(null, records);
+
+        BattleRecordsForTrackingResponseDto first = records.get(0);
+        BattleRecordsForTrackingResponseDto last = records.get(records.size() - 1);
+        assertThat(filtered.get(0).getTime()).isEqualTo(first.getTime());
+        assertThat(filtered.get(filtered.size() - 1).getTime()).isEqualTo(last.getTime());
+        assertThat(filtered.get(filtered.size() - 1).getDistance()).isEqualTo(last.getDistance());
+
+        assertThat(filtered.size()).isLessThan(records.size() / 5);
+        assertThat(Math.abs(length(filtered) - TRUE_LENGTH) / TRUE_LENGTH).isLessThan(0.1);
+        assertThat(length(records)).isGreaterThan(TRUE_LENGTH * 2);
+    }
+
+    @Test
+    void filter_removesSpikeAndKeepsBattleTracksDenser() {
+        List<BattleRecordsForTrackingResponseDto> records = fixture();
+
+        List<BattleRecordsForTrackingResponseDto> normal = trackFilter.filter(null, records);
+        List<BattleRecordsForTrackingResponseDto> battle = trackFilter.filter("FRIEND", records);
+
+        // 실제 경로에서 20m 이상 벗어난 포인트 없음
+        for (BattleRecordsForTrackingResponseDto record : battle) {
+            if (record.getLatitude() == null) {
+                continue;
+            }
+            double north = (record.getLatitude() - BASE_LAT) * METERS_PER_DEGREE;
+            double east = (record.getLongitude() - BASE_LNG) * METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT));
+            double offset = Math.min(Math.abs(east), Math.abs(north - 300 * SPEED));
+            assertThat(offset).isLessThan(20);
+        }
+        assertThat(battle.size()).isGreaterThan(normal.size());
+    }
+
+    @Test
+    void filter_reanchorsAfterColdStartOutlier() {
+        List<BattleRecordsForTrackingResponseDto> records = fixture();
+        BattleRecordsForTrackingResponseDto first = records.get(0);
+        records.set(0, BattleRecordsForTrackingResponseDto.builder()
+                                                          .time(first.getTime())
+                                                          .distance(first.getDistance())
+                                                          .heartRate(first.getHeartRate())
+                                                          .latitude(first.getLatitude())
+                                                          .longitude(first.getLongitude() + 2000 / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT))))
+                                                          .build());
+
+        List<BattleRecordsForTrackingResponseDto> filtered = trackFilter.filter("FRIEND", records);
+
+        // 첫 포인트는 시간만 남기고 좌표 제거, 직후 포인트부터 유지
+        assertThat(filtered.get(0).getTime()).isZero();
+        assertThat(filtered.get(0).getLatitude()).isNull();
+        assertThat(filtered.get(1).getTime()).isLessThan(30);
+        assertThat(Math.abs(length(filtered) - TRUE_LENGTH) / TRUE_LENGTH).isLessThan(0.1);
+    }
+
+    private static List<BattleRecordsForTrackingResponseDto> fixture() {
+        Random random = new Random(42);
+        List<BattleRecordsForTrackingResponseDto> records = new ArrayList<>();
+        double north = 0;
+        double east = 0;
+        double distance = 0;
+
+        for (int t = 0; t <= 600; t++) {
+            if (t > 0 && t <= 300) {
+                north += SPEED;
+                distance += SPEED;
+            } else if (t > 420) {
+                east += SPEED;
+                distance += SPEED;
+            }
+
+            double noisyNorth = north + (random.nextDouble() * 4 - 2);
+            double noisyEast = east + (random.nextDouble() * 4 - 2);
+            if (t == 100) {
+                noisyEast += 500;
+            }
+
+            records.add(BattleRecordsForTrackingResponseDto.builder()
+                                                           .time(t)
+                                                           .distance(distance)
+                                                           .heartRate(100 + random.nextInt(5))
+                                                           .latitude(BASE_LAT + noisyNorth / METERS_PER_DEGREE)
+                                                           .longitude(BASE_LNG + noisyEast / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT))))
+                                                           .build());
+        }
+        return records;
+    }
+
+    private static double length(List<BattleRecordsForTrackingResponseDto> records) {
+        double length = 0;
+        BattleRecordsForTrackingResponseDto previous = null;
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            if (record.getLatitude() == null) {
+                continue;
+            }
+            if (previous != null) {
+                length += TrackingUtils.calculateDistance(previous.getLatitude(), previous.getLongitude(),
+                        record.getLatitude(), record.getLongitude());
+            }
+            previous = record;
+        }
+        return length;
+    }
+}